@@ -2,10 +2,12 @@ package com.brobrown.discoveryclient;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
 
 @EnableDiscoveryClient
 @SpringBootApplication
+@ConfigurationPropertiesScan
 public class DiscoveryclientApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,166 @@
+package com.brobrown.discoveryclient.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import com.brobrown.discoveryclient.config.ResponseCacheProperties;
+
+/**
+ * 라우트를 통과한 GET 응답 본문을 보관하는 LRU 캐시 (모든 라우트 공용, 항목 수/본문 합계 바이트 제한)
+ * 같은 키로 동시에 들어온 캐시 미스는 먼저 온 요청(leader) 하나만 업스트림으로 보내고
+ * 나머지는 그 결과를 기다렸다가 함께 응답하도록 진행 중인 조회를 키별로 공유한다.
+ */
+@Component
+public class GatewayResponseCache {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final AtomicLong generation = new AtomicLong();
+    private final Map<String, CachedResponse> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, CompletableFuture<Optional<CachedResponse>>> loading = new ConcurrentHashMap<>();
+    private final int maxEntries;
+    private final int maxEntryBytes;
+    private final long maxTotalBytes;
+
+    /** entries 본문 바이트 합계 (lock으로 보호) */
+    private long totalBytes;
+
+    public GatewayResponseCache(ResponseCacheProperties properties) {
+        this.maxEntries = properties.maxEntries();
+        this.maxEntryBytes = properties.maxEntryBytes();
+        this.maxTotalBytes = properties.maxTotalBytes();
+    }
+
+    /**
+     * 만료되지 않은 응답 (만료된 항목은 이때 제거)
+     */
+    public CachedResponse get(String key) {
+        lock.lock();
+        try {
+            CachedResponse cached = entries.get(key);
+            if (cached != null && cached.expired()) {
+                remove(key);
+                return null;
+            }
+            return cached;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int maxEntryBytes() {
+        return maxEntryBytes;
+    }
+
+    /**
+     * 업스트림 호출을 시작하기 전에 읽어 두는 무효화 세대 번호
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * 응답을 받는 동안 무효화가 일어났다면(세대 번호 변경) 오래된 응답일 수 있으므로 저장하지 않는다.
+     * 저장 후 항목 수나 본문 합계가 한도를 넘으면 가장 오래 쓰지 않은 항목부터 제거한다.
+     */
+    public void put(String key, long generationAtStart, CachedResponse response) {
+        lock.lock();
+        try {
+            if (generation.get() != generationAtStart) {
+                return;
+            }
+            remove(key);
+            entries.put(key, response);
+            totalBytes += response.body().length;
+            Iterator<CachedResponse> eldest = entries.values().iterator();
+            while ((entries.size() > maxEntries || totalBytes > maxTotalBytes) && eldest.hasNext()) {
+                totalBytes -= eldest.next().body().length;
+                eldest.remove();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 보관 중인 본문 바이트 합계
+     */
+    public long totalBytes() {
+        lock.lock();
+        try {
+            return totalBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 라우트를 통과한 쓰기 요청 이후 해당 라우트의 응답을 모두 제거
+     */
+    public void invalidate(String routeId) {
+        String prefix = routeId + ":";
+        lock.lock();
+        try {
+            generation.incrementAndGet();
+            entries.entrySet().removeIf(entry -> {
+                if (!entry.getKey().startsWith(prefix)) {
+                    return false;
+                }
+                totalBytes -= entry.getValue().body().length;
+                return true;
+            });
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 같은 키의 진행 중인 조회에 합류
+     *
+     * @return 이미 진행 중인 조회의 결과(따라가는 요청), 없으면 null (호출한 요청이 leader가 되어 pending을 완료해야 함)
+     */
+    public CompletableFuture<Optional<CachedResponse>> join(String key,
+            CompletableFuture<Optional<CachedResponse>> pending) {
+        return loading.putIfAbsent(key, pending);
+    }
+
+    /**
+     * leader의 조회가 끝나면 호출 (캐시할 수 없는 응답이었다면 기다리던 요청은 각자 업스트림을 호출)
+     */
+    public void leave(String key, CompletableFuture<Optional<CachedResponse>> pending) {
+        pending.complete(Optional.empty());
+        loading.remove(key, pending);
+    }
+
+    private void remove(String key) {
+        CachedResponse removed = entries.remove(key);
+        if (removed != null) {
+            totalBytes -= removed.body().length;
+        }
+    }
+
+    /**
+     * @param etag      본문 MD5로 만든 강한 ETag (ShallowEtagHeaderFilter와 같은 형식)
+     * @param expiresAt System.nanoTime() 기준 만료 시각
+     */
+    public record CachedResponse(MediaType contentType, byte[] body, String etag, long expiresAt) {
+
+        public static CachedResponse of(MediaType contentType, byte[] body, long ttlNanos) {
+            return new CachedResponse(contentType, body, "\"0" + DigestUtils.md5DigestAsHex(body) + "\"",
+                    System.nanoTime() + ttlNanos);
+        }
+
+        boolean expired() {
+            return System.nanoTime() - expiresAt > 0;
+        }
+    }
+}
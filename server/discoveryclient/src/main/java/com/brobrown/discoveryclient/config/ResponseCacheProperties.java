@@ -0,0 +1,18 @@
+package com.brobrown.discoveryclient.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 게이트웨이 GET 응답 캐시 설정 (라우트별 TTL은 ResponseCache 필터 인자로 지정)
+ *
+ * @param maxEntries    모든 라우트를 합쳐 보관할 최대 응답 수 (LRU)
+ * @param maxEntryBytes 이보다 큰 응답은 캐시하지 않음
+ * @param maxTotalBytes 모든 응답 본문을 합친 최대 바이트 (넘으면 LRU로 제거)
+ */
+@ConfigurationProperties(prefix = "gateway.response-cache")
+public record ResponseCacheProperties(
+        @DefaultValue("1000") int maxEntries,
+        @DefaultValue("262144") int maxEntryBytes,
+        @DefaultValue("33554432") long maxTotalBytes) {
+}
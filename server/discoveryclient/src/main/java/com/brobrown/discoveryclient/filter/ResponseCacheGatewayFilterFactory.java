@@ -0,0 +1,199 @@
+package com.brobrown.discoveryclient.filter;
+
+import java.io.ByteArrayOutputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.brobrown.discoveryclient.cache.GatewayResponseCache;
+import com.brobrown.discoveryclient.cache.GatewayResponseCache.CachedResponse;
+
+import lombok.Data;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 라우트별 GET 응답 캐시 필터 (라우트 설정: ResponseCache=10s 또는 name/args로 ttl, paths 지정)
+ * 적중하면 업스트림을 호출하지 않고 보관한 본문을 ETag와 함께 돌려주며 If-None-Match가 맞으면 304로 응답한다.
+ * 같은 키의 동시 미스는 leader 하나만 업스트림으로 보내고 나머지는 그 응답을 나눠 받는다(X-Gateway-Cache: COALESCED).
+ * leader 응답을 coalesceWait 안에 받지 못한 요청은 더 기다리지 않고 직접 업스트림을 호출한다.
+ * 같은 라우트로 쓰기 요청(POST/PUT/PATCH/DELETE)이 지나가면 해당 라우트의 캐시를 비운다.
+ */
+@Component
+public class ResponseCacheGatewayFilterFactory
+        extends AbstractGatewayFilterFactory<ResponseCacheGatewayFilterFactory.Config> {
+
+    /** 응답 출처 (HIT, MISS, COALESCED) */
+    public static final String CACHE_STATUS_HEADER = "X-Gateway-Cache";
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final GatewayResponseCache cache;
+
+    public ResponseCacheGatewayFilterFactory(GatewayResponseCache cache) {
+        super(Config.class);
+        this.cache = cache;
+    }
+
+    @Override
+    public List<String> shortcutFieldOrder() {
+        return List.of("ttl");
+    }
+
+    /**
+     * 응답 본문을 가로채야 하므로 NettyWriteResponseFilter보다 먼저 교체한 응답 객체를 넘긴다.
+     */
+    @Override
+    public GatewayFilter apply(Config config) {
+        return new OrderedGatewayFilter((exchange, chain) -> filter(exchange, chain, config),
+                NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1);
+    }
+
+    private Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain, Config config) {
+        ServerHttpRequest request = exchange.getRequest();
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        String routeId = route != null ? route.getId() : "";
+        HttpMethod method = request.getMethod();
+        if (!HttpMethod.GET.equals(method)) {
+            if (HttpMethod.HEAD.equals(method) || HttpMethod.OPTIONS.equals(method)) {
+                return chain.filter(exchange);
+            }
+            return chain.filter(exchange).doFinally(signal -> cache.invalidate(routeId));
+        }
+        if (!cacheable(request, config)) {
+            return chain.filter(exchange);
+        }
+
+        String key = routeId + ":" + request.getURI().getRawPath()
+                + (request.getURI().getRawQuery() != null ? "?" + request.getURI().getRawQuery() : "");
+        CachedResponse cached = cache.get(key);
+        if (cached != null) {
+            return write(exchange, cached, "HIT");
+        }
+
+        CompletableFuture<Optional<CachedResponse>> pending = new CompletableFuture<>();
+        CompletableFuture<Optional<CachedResponse>> leader = cache.join(key, pending);
+        if (leader != null) {
+            // 한 요청의 취소/시간 초과가 공유 future를 취소해 다른 대기 요청까지 끊지 않도록 suppressCancel
+            return Mono.fromFuture(leader, true)
+                    .timeout(config.getCoalesceWait(), Mono.just(Optional.empty()))
+                    .flatMap(result -> result.isPresent()
+                            ? write(exchange, result.get(), "COALESCED")
+                            : chain.filter(exchange));
+        }
+        CapturingResponse capturing = new CapturingResponse(exchange.getResponse(), key, cache.generation(),
+                config.getTtl().toNanos(), pending);
+        return chain.filter(exchange.mutate().response(capturing).build())
+                .doFinally(signal -> cache.leave(key, pending));
+    }
+
+    private boolean cacheable(ServerHttpRequest request, Config config) {
+        String cacheControl = request.getHeaders().getCacheControl();
+        if (cacheControl != null && (cacheControl.contains("no-cache") || cacheControl.contains("no-store"))) {
+            return false;
+        }
+        String path = request.getURI().getRawPath();
+        return config.getPaths().isEmpty()
+                || config.getPaths().stream().anyMatch(pattern -> pathMatcher.match(pattern, path));
+    }
+
+    private Mono<Void> write(ServerWebExchange exchange, CachedResponse cached, String source) {
+        ServerHttpResponse response = exchange.getResponse();
+        HttpHeaders headers = response.getHeaders();
+        headers.set(CACHE_STATUS_HEADER, source);
+        if (exchange.checkNotModified(cached.etag())) {
+            return response.setComplete();
+        }
+        response.setStatusCode(HttpStatus.OK);
+        headers.setETag(cached.etag());
+        headers.setContentType(cached.contentType());
+        headers.setContentLength(cached.body().length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(cached.body())));
+    }
+
+    @Data
+    public static class Config {
+        /** 캐시 보관 시간 */
+        private Duration ttl = Duration.ofSeconds(10);
+        /** 같은 키의 leader 응답을 기다리는 최대 시간 (넘으면 직접 업스트림 호출) */
+        private Duration coalesceWait = Duration.ofSeconds(3);
+        /** 캐시할 요청 경로 (게이트웨이 기준, Ant 스타일, 비어 있으면 라우트의 모든 GET) */
+        private List<String> paths = new ArrayList<>();
+    }
+
+    /**
+     * 업스트림 본문을 클라이언트로 그대로 흘려보내면서 복사본을 모아 두었다가 끝나면 캐시에 저장
+     * 본문이 다 모이기 전에 헤더가 나가므로 leader 응답에는 ETag를 붙이지 않는다.
+     * 스트리밍 응답(writeAndFlushWith), 200이 아닌 응답, no-store/private 응답, 최대 크기를 넘는 응답은 저장하지 않는다.
+     */
+    private final class CapturingResponse extends ServerHttpResponseDecorator {
+
+        private final String key;
+        private final long generation;
+        private final long ttlNanos;
+        private final CompletableFuture<Optional<CachedResponse>> pending;
+
+        CapturingResponse(ServerHttpResponse delegate, String key, long generation, long ttlNanos,
+                CompletableFuture<Optional<CachedResponse>> pending) {
+            super(delegate);
+            this.key = key;
+            this.generation = generation;
+            this.ttlNanos = ttlNanos;
+            this.pending = pending;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            String cacheControl = getHeaders().getCacheControl();
+            if (!HttpStatus.OK.equals(getStatusCode())
+                    || (cacheControl != null && (cacheControl.contains("no-store") || cacheControl.contains("private")))) {
+                return super.writeWith(body);
+            }
+            getHeaders().set(CACHE_STATUS_HEADER, "MISS");
+            ByteArrayOutputStream captured = new ByteArrayOutputStream();
+            boolean[] overflow = new boolean[1];
+            Flux<DataBuffer> tapped = Flux.from(body)
+                    .doOnNext(buffer -> {
+                        int readable = buffer.readableByteCount();
+                        if (overflow[0] || captured.size() + readable > cache.maxEntryBytes()) {
+                            overflow[0] = true;
+                            return;
+                        }
+                        int position = buffer.readPosition();
+                        byte[] chunk = new byte[readable];
+                        buffer.read(chunk);
+                        buffer.readPosition(position);
+                        captured.write(chunk, 0, readable);
+                    })
+                    .doOnComplete(() -> {
+                        if (!overflow[0]) {
+                            CachedResponse response = CachedResponse.of(getHeaders().getContentType(),
+                                    captured.toByteArray(), ttlNanos);
+                            cache.put(key, generation, response);
+                            pending.complete(Optional.of(response));
+                        }
+                    });
+            return super.writeWith(tapped);
+        }
+    }
+}
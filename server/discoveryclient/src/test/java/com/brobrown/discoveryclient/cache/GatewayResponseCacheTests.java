@@ -0,0 +1,75 @@
+package com.brobrown.discoveryclient.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import com.brobrown.discoveryclient.cache.GatewayResponseCache.CachedResponse;
+import com.brobrown.discoveryclient.config.ResponseCacheProperties;
+
+class GatewayResponseCacheTests {
+
+	private static final long TTL = Duration.ofMinutes(1).toNanos();
+
+	@Test
+	void totalBytesEvictLeastRecentlyUsed() {
+		GatewayResponseCache cache = new GatewayResponseCache(new ResponseCacheProperties(100, 1024, 3000));
+
+		cache.put("r:a", cache.generation(), response(1000));
+		cache.put("r:b", cache.generation(), response(1000));
+		cache.put("r:c", cache.generation(), response(1000));
+		cache.get("r:a");
+		cache.put("r:d", cache.generation(), response(1000));
+
+		assertThat(cache.get("r:b")).isNull();
+		assertThat(cache.get("r:a")).isNotNull();
+		assertThat(cache.get("r:c")).isNotNull();
+		assertThat(cache.get("r:d")).isNotNull();
+		assertThat(cache.totalBytes()).isEqualTo(3000);
+	}
+
+	@Test
+	void entryCountStillBounds() {
+		GatewayResponseCache cache = new GatewayResponseCache(new ResponseCacheProperties(2, 1024, 1_000_000));
+
+		cache.put("r:a", cache.generation(), response(10));
+		cache.put("r:b", cache.generation(), response(10));
+		cache.put("r:c", cache.generation(), response(10));
+
+		assertThat(cache.get("r:a")).isNull();
+		assertThat(cache.totalBytes()).isEqualTo(20);
+	}
+
+	@Test
+	void replacingAnEntryCountsOnlyTheNewBody() {
+		GatewayResponseCache cache = new GatewayResponseCache(new ResponseCacheProperties(100, 1024, 3000));
+
+		cache.put("r:a", cache.generation(), response(1000));
+		cache.put("r:a", cache.generation(), response(400));
+
+		assertThat(cache.totalBytes()).isEqualTo(400);
+	}
+
+	@Test
+	void invalidateReleasesBytesAndDropsInFlightResponses() {
+		GatewayResponseCache cache = new GatewayResponseCache(new ResponseCacheProperties(100, 1024, 3000));
+		cache.put("soccer:a", cache.generation(), response(100));
+		cache.put("user:a", cache.generation(), response(200));
+		long beforeWrite = cache.generation();
+
+		cache.invalidate("soccer");
+		cache.put("soccer:b", beforeWrite, response(100));
+
+		assertThat(cache.get("soccer:a")).isNull();
+		assertThat(cache.get("soccer:b")).isNull();
+		assertThat(cache.get("user:a")).isNotNull();
+		assertThat(cache.totalBytes()).isEqualTo(200);
+	}
+
+	private static CachedResponse response(int bytes) {
+		return CachedResponse.of(MediaType.APPLICATION_JSON, new byte[bytes], TTL);
+	}
+}
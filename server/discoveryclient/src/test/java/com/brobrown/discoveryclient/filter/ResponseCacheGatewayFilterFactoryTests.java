@@ -0,0 +1,157 @@
+package com.brobrown.discoveryclient.filter;
+
+import static com.brobrown.discoveryclient.filter.ResponseCacheGatewayFilterFactory.CACHE_STATUS_HEADER;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.brobrown.discoveryclient.cache.GatewayResponseCache;
+import com.brobrown.discoveryclient.config.ResponseCacheProperties;
+
+import reactor.core.publisher.Mono;
+
+class ResponseCacheGatewayFilterFactoryTests {
+
+	private static final String BODY = "{\"code\":200,\"data\":\"team\"}";
+	private static final Duration WAIT = Duration.ofSeconds(5);
+
+	private final AtomicInteger upstreamCalls = new AtomicInteger();
+	private final Route route = Route.async()
+			.id("soccerservice")
+			.uri("lb://soccerservice")
+			.predicate(exchange -> true)
+			.build();
+
+	private GatewayFilter filter;
+
+	@BeforeEach
+	void setUp() {
+		ResponseCacheGatewayFilterFactory.Config config = new ResponseCacheGatewayFilterFactory.Config();
+		config.setCoalesceWait(Duration.ofMillis(200));
+		GatewayResponseCache cache = new GatewayResponseCache(new ResponseCacheProperties(100, 1024, 1_000_000));
+		filter = new ResponseCacheGatewayFilterFactory(cache).apply(config);
+	}
+
+	@Test
+	void missGoesUpstreamThenHitIsServedFromMemory() {
+		MockServerWebExchange miss = get("/soccer/team/T01");
+		filter.filter(miss, this::upstream).block(WAIT);
+
+		MockServerWebExchange hit = get("/soccer/team/T01");
+		filter.filter(hit, this::upstream).block(WAIT);
+
+		assertThat(miss.getResponse().getHeaders().getFirst(CACHE_STATUS_HEADER)).isEqualTo("MISS");
+		assertThat(miss.getResponse().getBodyAsString().block(WAIT)).isEqualTo(BODY);
+		assertThat(hit.getResponse().getHeaders().getFirst(CACHE_STATUS_HEADER)).isEqualTo("HIT");
+		assertThat(hit.getResponse().getHeaders().getETag()).isNotBlank();
+		assertThat(hit.getResponse().getBodyAsString().block(WAIT)).isEqualTo(BODY);
+		assertThat(upstreamCalls).hasValue(1);
+	}
+
+	@Test
+	void matchingIfNoneMatchRevalidatesWith304() {
+		filter.filter(get("/soccer/team/T01"), this::upstream).block(WAIT);
+		MockServerWebExchange hit = get("/soccer/team/T01");
+		filter.filter(hit, this::upstream).block(WAIT);
+		String etag = hit.getResponse().getHeaders().getETag();
+
+		MockServerWebExchange revalidate = MockServerWebExchange.from(MockServerHttpRequest.get("/soccer/team/T01")
+				.header(HttpHeaders.IF_NONE_MATCH, etag));
+		revalidate.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, route);
+		filter.filter(revalidate, this::upstream).block(WAIT);
+
+		assertThat(revalidate.getResponse().getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+		assertThat(upstreamCalls).hasValue(1);
+	}
+
+	@Test
+	void concurrentMissesShareTheLeaderResponse() throws Exception {
+		CompletableFuture<Void> gate = new CompletableFuture<>();
+		MockServerWebExchange leader = get("/soccer/search/findByKeyword?type=team&keyword=a");
+		MockServerWebExchange follower = get("/soccer/search/findByKeyword?type=team&keyword=a");
+
+		CompletableFuture<Void> leading = filter.filter(leader, gated(gate)).toFuture();
+		CompletableFuture<Void> following = filter.filter(follower, this::upstream).toFuture();
+		gate.complete(null);
+		leading.get(5, TimeUnit.SECONDS);
+		following.get(5, TimeUnit.SECONDS);
+
+		assertThat(leader.getResponse().getHeaders().getFirst(CACHE_STATUS_HEADER)).isEqualTo("MISS");
+		assertThat(follower.getResponse().getHeaders().getFirst(CACHE_STATUS_HEADER)).isEqualTo("COALESCED");
+		assertThat(follower.getResponse().getBodyAsString().block(WAIT)).isEqualTo(BODY);
+		assertThat(upstreamCalls).hasValue(1);
+	}
+
+	@Test
+	void followerStopsWaitingForASlowLeaderAndCallsUpstream() throws Exception {
+		CompletableFuture<Void> gate = new CompletableFuture<>();
+		MockServerWebExchange leader = get("/soccer/stadium/all");
+		MockServerWebExchange follower = get("/soccer/stadium/all");
+
+		CompletableFuture<Void> leading = filter.filter(leader, gated(gate)).toFuture();
+		filter.filter(follower, this::upstream).block(WAIT);
+
+		assertThat(follower.getResponse().getHeaders().getFirst(CACHE_STATUS_HEADER)).isNull();
+		assertThat(follower.getResponse().getBodyAsString().block(WAIT)).isEqualTo(BODY);
+		assertThat(leading).isNotDone();
+
+		gate.complete(null);
+		leading.get(5, TimeUnit.SECONDS);
+		assertThat(leader.getResponse().getHeaders().getFirst(CACHE_STATUS_HEADER)).isEqualTo("MISS");
+		assertThat(upstreamCalls).hasValue(2);
+	}
+
+	@Test
+	void writeThroughTheRouteInvalidatesCachedReads() {
+		filter.filter(get("/soccer/team/T01"), this::upstream).block(WAIT);
+
+		MockServerWebExchange write = MockServerWebExchange.from(MockServerHttpRequest.put("/soccer/team/T01"));
+		write.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, route);
+		filter.filter(write, this::upstream).block(WAIT);
+
+		MockServerWebExchange afterWrite = get("/soccer/team/T01");
+		filter.filter(afterWrite, this::upstream).block(WAIT);
+
+		assertThat(afterWrite.getResponse().getHeaders().getFirst(CACHE_STATUS_HEADER)).isEqualTo("MISS");
+		assertThat(upstreamCalls).hasValue(3);
+	}
+
+	private MockServerWebExchange get(String uri) {
+		MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get(uri));
+		exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, route);
+		return exchange;
+	}
+
+	/**
+	 * gate가 완료될 때까지 응답하지 않는 업스트림
+	 */
+	private GatewayFilterChain gated(CompletableFuture<Void> gate) {
+		return exchange -> Mono.fromFuture(gate).then(Mono.defer(() -> upstream(exchange)));
+	}
+
+	private Mono<Void> upstream(ServerWebExchange exchange) {
+		upstreamCalls.incrementAndGet();
+		ServerHttpResponse response = exchange.getResponse();
+		response.setStatusCode(HttpStatus.OK);
+		response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+		return response.writeWith(Mono.just(response.bufferFactory().wrap(BODY.getBytes(StandardCharsets.UTF_8))));
+	}
+}
@@ -0,0 +1,103 @@
+package com.brobrown.soccerservice.bench;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.springframework.context.ApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.brobrown.soccerservice.player.Player;
+import com.brobrown.soccerservice.player.PlayerRepository;
+import com.brobrown.soccerservice.schedule.domain.Schedule;
+import com.brobrown.soccerservice.schedule.repository.ScheduleRepository;
+import com.brobrown.soccerservice.stadium.domain.Stadium;
+import com.brobrown.soccerservice.stadium.repository.StadiumRepository;
+import com.brobrown.soccerservice.team.domain.Team;
+import com.brobrown.soccerservice.team.repository.TeamRepository;
+
+/**
+ * 벤치마크용 고정 시드 데이터
+ * 같은 시드로 항상 같은 데이터를 만들어 실행 간 결과를 비교할 수 있게 한다.
+ */
+final class BenchmarkDataset {
+
+    static final String[] SURNAMES = { "김", "이", "박", "최", "정", "강", "조", "윤", "장", "임", "손", "황" };
+    static final String[] SYLLABLES = { "민", "준", "서", "현", "우", "지", "호", "성", "진", "영", "흥", "재", "동", "수" };
+    static final String[] REGIONS = { "서울", "수원", "부산", "울산", "포항", "전북", "인천", "대구", "광주", "제주" };
+    static final String[] POSITIONS = { "GK", "DF", "MF", "FW" };
+
+    private static final long SEED = 20_240_301L;
+
+    private BenchmarkDataset() {
+    }
+
+    static void seed(ApplicationContext context, int teamCount, int playersPerTeam, int scheduleCount) {
+        TransactionTemplate tx = context.getBean(TransactionTemplate.class);
+        Random random = new Random(SEED);
+
+        List<Stadium> stadiums = new ArrayList<>(teamCount);
+        List<Team> teams = new ArrayList<>(teamCount);
+        for (int i = 0; i < teamCount; i++) {
+            String region = REGIONS[i % REGIONS.length];
+            Stadium stadium = new Stadium();
+            stadium.setStadiumId(String.format("S%03d", i));
+            stadium.setStadiumName(region + " 월드컵경기장 " + i);
+            stadium.setAddress(region + "시 " + (i + 1) + "번지");
+            stadium.setSeatCount(20_000 + random.nextInt(40_000));
+            stadiums.add(stadium);
+
+            Team team = new Team();
+            team.setTeamId(String.format("K%03d", i));
+            team.setTeamName(region + " FC " + i);
+            team.setETeamName("K LEAGUE FC " + i);
+            team.setRegionName(region);
+            team.setStadium(stadium);
+            teams.add(team);
+        }
+        tx.executeWithoutResult(status -> {
+            context.getBean(StadiumRepository.class).saveAll(stadiums);
+            context.getBean(TeamRepository.class).saveAll(teams);
+        });
+
+        List<Player> players = new ArrayList<>(teamCount * playersPerTeam);
+        long playerId = 1;
+        for (Team team : teams) {
+            for (int i = 0; i < playersPerTeam; i++) {
+                Player player = new Player();
+                player.setPlayerId(playerId++);
+                player.setPlayerName(name(random));
+                player.setEPlayerName("PLAYER " + playerId);
+                player.setPosition(POSITIONS[random.nextInt(POSITIONS.length)]);
+                player.setBackNo(String.valueOf(1 + random.nextInt(99)));
+                player.setNation("대한민국");
+                player.setTeam(team);
+                players.add(player);
+            }
+        }
+        tx.executeWithoutResult(status -> context.getBean(PlayerRepository.class).saveAll(players));
+
+        List<Schedule> schedules = new ArrayList<>(scheduleCount);
+        for (int i = 0; i < scheduleCount; i++) {
+            int home = random.nextInt(teamCount);
+            int away = (home + 1 + random.nextInt(teamCount - 1)) % teamCount;
+            Schedule schedule = new Schedule();
+            schedule.setScheDate(LocalDate.of(2000 + random.nextInt(25), 1 + random.nextInt(12), 1 + random.nextInt(28)));
+            schedule.setGubun("Y");
+            schedule.setStadium(stadiums.get(home));
+            schedule.setHometeamId(teams.get(home).getTeamId());
+            schedule.setAwayteamId(teams.get(away).getTeamId());
+            schedule.setHomeScore(random.nextInt(5));
+            schedule.setAwayScore(random.nextInt(5));
+            schedules.add(schedule);
+        }
+        tx.executeWithoutResult(status -> context.getBean(ScheduleRepository.class).saveAll(schedules));
+    }
+
+    private static String name(Random random) {
+        return SURNAMES[random.nextInt(SURNAMES.length)]
+                + SYLLABLES[random.nextInt(SYLLABLES.length)]
+                + SYLLABLES[random.nextInt(SYLLABLES.length)];
+    }
+}
@@ -0,0 +1,68 @@
+package com.brobrown.soccerservice.bench;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.brobrown.soccerservice.common.Messenger;
+import com.brobrown.soccerservice.player.PlayerSummary;
+import com.brobrown.soccerservice.search.SearchHit;
+import com.brobrown.soccerservice.search.SearchHits;
+import com.brobrown.soccerservice.team.domain.TeamView;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+/**
+ * Messenger 응답 JSON 직렬화 비용 (목록 응답, 검색 응답)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class MessengerSerializationBenchmark {
+
+    @Param({ "10", "50", "500" })
+    public int rows;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    private Messenger teamList;
+    private Messenger playerSearch;
+
+    @Setup
+    public void setUp() {
+        List<TeamView> teams = new ArrayList<>(rows);
+        List<SearchHit<PlayerSummary>> hits = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            String region = BenchmarkDataset.REGIONS[i % BenchmarkDataset.REGIONS.length];
+            teams.add(new TeamView(String.format("K%03d", i), region, region + " FC " + i, "K LEAGUE FC " + i,
+                    "1995", "123", "456", region + "시 " + i + "번지", "02", "123-4567", "123-4568",
+                    "http://www.example.com", "(주)" + region, String.format("S%03d", i), region + " 월드컵경기장"));
+            hits.add(new SearchHit<>("player", 600 - i, new PlayerSummary((long) i, "김민준" + i, "KIM MINJUN",
+                    null, "FW", String.valueOf(i % 99), "대한민국", String.format("K%03d", i % 40), region + " FC")));
+        }
+        teamList = Messenger.builder().code(200).message("Teams found").data(teams).build();
+        playerSearch = Messenger.builder().code(200).message("Players found by keyword: 김")
+                .data(new SearchHits<>(hits, rows * 10)).build();
+    }
+
+    @Benchmark
+    public byte[] teamList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(teamList);
+    }
+
+    @Benchmark
+    public byte[] playerSearch() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(playerSearch);
+    }
+}
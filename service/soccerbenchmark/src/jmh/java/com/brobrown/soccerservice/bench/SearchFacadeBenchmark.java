@@ -0,0 +1,59 @@
+package com.brobrown.soccerservice.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.brobrown.soccerservice.SoccerserviceApplication;
+import com.brobrown.soccerservice.common.Messenger;
+import com.brobrown.soccerservice.service.SoccerSearchFacade;
+
+/**
+ * SoccerSearchFacade.searchByKeyword 처리량
+ * H2(PostgreSQL 모드) 인메모리 DB에 고정 시드 데이터를 넣고 인덱스/조회/응답 모델 변환까지 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SearchFacadeBenchmark {
+
+    @Param({ "player", "team", "schedule", "all" })
+    public String type;
+
+    /** 한 음절(일치 건수 많음), 두 음절, 영문 */
+    @Param({ "김", "수원", "fc" })
+    public String keyword;
+
+    private ConfigurableApplicationContext context;
+    private SoccerSearchFacade facade;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(SoccerserviceApplication.class)
+                .profiles("bench")
+                .run();
+        BenchmarkDataset.seed(context, 40, 100, 20_000);
+        facade = context.getBean(SoccerSearchFacade.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public Messenger searchByKeyword() {
+        return facade.searchByKeyword(type, keyword);
+    }
+}
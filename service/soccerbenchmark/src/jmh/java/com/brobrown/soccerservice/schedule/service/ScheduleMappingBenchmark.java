@@ -0,0 +1,57 @@
+package com.brobrown.soccerservice.schedule.service;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.brobrown.soccerservice.schedule.domain.Schedule;
+import com.brobrown.soccerservice.schedule.domain.ScheduleDTO;
+import com.brobrown.soccerservice.stadium.domain.Stadium;
+
+/**
+ * ScheduleServiceImpl DTO -> 엔티티 매핑 비용
+ * 매핑 메서드가 package-private이므로 같은 패키지에 둔다. 저장소는 사용하지 않으므로 null로 생성한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ScheduleMappingBenchmark {
+
+    private final ScheduleServiceImpl service = new ScheduleServiceImpl(null, null, null, null, null, null);
+
+    private Stadium stadium;
+    private ScheduleDTO full;
+    private ScheduleDTO partial;
+    private Schedule target;
+
+    @Setup
+    public void setUp() {
+        stadium = new Stadium();
+        stadium.setStadiumId("S001");
+        full = ScheduleDTO.builder()
+                .id(1L).stadiumUk("S001").scheDate(LocalDate.of(2012, 3, 17)).gubun("Y")
+                .hometeamId("K001").awayteamId("K002").homeScore(2).awayScore(1)
+                .build();
+        // 경기 결과만 수정 (경기장 변경 없음: 경기장 변경은 Repository 조회가 포함됨)
+        partial = ScheduleDTO.builder().homeScore(3).awayScore(3).build();
+        target = service.dtoToEntity(full, id -> stadium);
+    }
+
+    @Benchmark
+    public Schedule dtoToEntity() {
+        return service.dtoToEntity(full, id -> stadium);
+    }
+
+    @Benchmark
+    public Schedule updateEntityFromDto() {
+        service.updateEntityFromDto(target, partial);
+        return target;
+    }
+}
@@ -0,0 +1,58 @@
+package com.brobrown.soccerservice.team.service;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.brobrown.soccerservice.stadium.domain.Stadium;
+import com.brobrown.soccerservice.team.domain.Team;
+import com.brobrown.soccerservice.team.domain.TeamDTO;
+
+/**
+ * TeamServiceImpl DTO -> 엔티티 매핑 비용
+ * 매핑 메서드가 package-private이므로 같은 패키지에 둔다. 저장소는 사용하지 않으므로 null로 생성한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TeamMappingBenchmark {
+
+    private final TeamServiceImpl service = new TeamServiceImpl(null, null, null, null, null, null);
+
+    private Stadium stadium;
+    private TeamDTO full;
+    private TeamDTO partial;
+    private Team target;
+
+    @Setup
+    public void setUp() {
+        stadium = new Stadium();
+        stadium.setStadiumId("S001");
+        full = TeamDTO.builder()
+                .teamId("K001").regionName("수원").teamName("수원 삼성").eTeamName("SUWON SAMSUNG")
+                .origYyyy("1995").zipCode1("440").zipCode2("220").address("수원시 팔달구")
+                .ddd("031").tel("123-4567").fax("123-4568").homepage("http://www.example.com")
+                .owner("(주)수원").stadiumId("S001")
+                .build();
+        // 부분 수정 (경기장 변경 없음: 경기장 변경은 Repository 조회가 포함됨)
+        partial = TeamDTO.builder().teamName("수원 삼성 블루윙즈").tel("765-4321").build();
+        target = service.dtoToEntity(full, id -> stadium);
+    }
+
+    @Benchmark
+    public Team dtoToEntity() {
+        return service.dtoToEntity(full, id -> stadium);
+    }
+
+    @Benchmark
+    public Team updateEntityFromDto() {
+        service.updateEntityFromDto(target, partial);
+        return target;
+    }
+}
@@ -0,0 +1,25 @@
+package com.brobrown.soccerservice.datagen;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 테이블마다 <table>.csv 파일 (헤더 포함, psql \copy ... WITH (FORMAT csv, HEADER)로 적재 가능)
+ */
+public final class CsvFileSink implements DatasetSink {
+
+    private final Path directory;
+
+    public CsvFileSink(Path directory) throws IOException {
+        this.directory = Files.createDirectories(directory);
+    }
+
+    @Override
+    public OutputStream open(String table, String[] columns) throws IOException {
+        OutputStream out = Files.newOutputStream(directory.resolve(table + ".csv"));
+        out.write((String.join(",", columns) + "\n").getBytes());
+        return out;
+    }
+}
@@ -0,0 +1,39 @@
+package com.brobrown.soccerservice.datagen;
+
+/**
+ * 생성할 데이터 규모
+ *
+ * @param teams          팀 수 (팀마다 전용 경기장 하나)
+ * @param playersPerTeam 팀당 선수 수
+ * @param seasons        시즌 수 (1983년부터)
+ * @param schedules      전체 일정 수 (시즌에 고르게 나눔)
+ */
+public record DatasetScale(int teams, int playersPerTeam, int seasons, long schedules) {
+
+    public static final int FIRST_SEASON = 1983;
+
+    public DatasetScale {
+        if (teams < 2) {
+            throw new IllegalArgumentException("teams must be >= 2");
+        }
+        if (seasons < 1 || schedules < 0 || playersPerTeam < 0) {
+            throw new IllegalArgumentException("invalid scale");
+        }
+    }
+
+    /**
+     * 일정 수에 맞춰 팀/선수 규모를 정함 (1만건 -> 31팀, 1천만건 -> 1000팀)
+     */
+    public static DatasetScale forSchedules(long schedules) {
+        int teams = (int) Math.max(12, Math.min(1000, Math.sqrt(schedules / 10.0)));
+        return new DatasetScale(teams, 40, 42, schedules);
+    }
+
+    public long players() {
+        return (long) teams * playersPerTeam;
+    }
+
+    long schedulesPerSeason() {
+        return Math.max(1, (schedules + seasons - 1) / seasons);
+    }
+}
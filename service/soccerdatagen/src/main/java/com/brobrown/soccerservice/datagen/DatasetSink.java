@@ -0,0 +1,25 @@
+package com.brobrown.soccerservice.datagen;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 테이블 단위로 CSV 스트림을 받는 출력 대상 (파일 또는 PostgreSQL COPY)
+ */
+public interface DatasetSink extends AutoCloseable {
+
+    /**
+     * 테이블 하나의 CSV 본문을 받을 스트림 (닫으면 해당 테이블 적재가 끝남)
+     */
+    OutputStream open(String table, String[] columns) throws IOException;
+
+    /**
+     * 모든 테이블을 쓴 뒤 호출 (시퀀스 보정, 커밋 등)
+     */
+    default void finish(long maxScheduleId) throws IOException {
+    }
+
+    @Override
+    default void close() throws Exception {
+    }
+}
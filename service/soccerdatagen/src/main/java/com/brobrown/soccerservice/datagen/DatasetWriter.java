@@ -0,0 +1,55 @@
+package com.brobrown.soccerservice.datagen;
+
+import java.io.IOException;
+
+import com.brobrown.soccerservice.datagen.Rows.PlayerRow;
+import com.brobrown.soccerservice.datagen.Rows.ScheduleRow;
+import com.brobrown.soccerservice.datagen.Rows.StadiumRow;
+import com.brobrown.soccerservice.datagen.Rows.TeamRow;
+
+/**
+ * 생성기의 행을 FK 순서(경기장 -> 팀 -> 선수 -> 일정)대로 출력 대상에 스트리밍
+ * 행을 모아 두지 않으므로 일정 1천만 건도 일정한 메모리로 쓴다.
+ */
+public final class DatasetWriter {
+
+    /** 테이블별 기록 행 수 */
+    public record Counts(long stadiums, long teams, long players, long schedules) {
+
+        public long total() {
+            return stadiums + teams + players + schedules;
+        }
+    }
+
+    private final KLeagueGenerator generator;
+
+    public DatasetWriter(KLeagueGenerator generator) {
+        this.generator = generator;
+    }
+
+    public Counts writeTo(DatasetSink sink) throws IOException {
+        DatasetScale scale = generator.scale();
+        try (CsvWriter out = new CsvWriter(sink.open(StadiumRow.TABLE, StadiumRow.COLUMNS))) {
+            for (int i = 0; i < scale.teams(); i++) {
+                generator.stadium(i).write(out);
+            }
+        }
+        try (CsvWriter out = new CsvWriter(sink.open(TeamRow.TABLE, TeamRow.COLUMNS))) {
+            for (int i = 0; i < scale.teams(); i++) {
+                generator.team(i).write(out);
+            }
+        }
+        try (CsvWriter out = new CsvWriter(sink.open(PlayerRow.TABLE, PlayerRow.COLUMNS))) {
+            for (long i = 0; i < scale.players(); i++) {
+                generator.player(i).write(out);
+            }
+        }
+        try (CsvWriter out = new CsvWriter(sink.open(ScheduleRow.TABLE, ScheduleRow.COLUMNS))) {
+            for (long i = 0; i < scale.schedules(); i++) {
+                generator.schedule(i).write(out);
+            }
+        }
+        sink.finish(scale.schedules());
+        return new Counts(scale.teams(), scale.teams(), scale.players(), scale.schedules());
+    }
+}
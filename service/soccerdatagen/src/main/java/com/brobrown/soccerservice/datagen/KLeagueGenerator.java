@@ -0,0 +1,146 @@
+package com.brobrown.soccerservice.datagen;
+
+import java.time.LocalDate;
+
+import com.brobrown.soccerservice.datagen.Rows.PlayerRow;
+import com.brobrown.soccerservice.datagen.Rows.ScheduleRow;
+import com.brobrown.soccerservice.datagen.Rows.StadiumRow;
+import com.brobrown.soccerservice.datagen.Rows.TeamRow;
+
+/**
+ * 합성 K리그 데이터 생성기
+ * 모든 행은 (시드, 행 번호)로 바로 계산되므로 전체를 메모리에 올리지 않고 스트리밍으로 만들 수 있다.
+ * 선수 -> 팀, 팀/일정 -> 경기장, 일정 -> 홈/원정 팀 참조는 항상 생성 범위 안의 값을 가리킨다.
+ *
+ * 팀 i(0부터)의 식별자는 K0001 형식, 전용 경기장은 C0001 형식, 선수 번호는 1부터, 일정 id는 1부터다.
+ */
+public final class KLeagueGenerator {
+
+    private static final int STADIUM = 1;
+    private static final int TEAM = 2;
+    private static final int PLAYER = 3;
+    private static final int SCHEDULE = 4;
+
+    /** 지역, 구단명, 영문 구단명, 경기장명 */
+    private static final String[][] CLUBS = {
+            { "서울", "FC서울", "FC SEOUL", "서울월드컵경기장" },
+            { "수원", "수원삼성", "SUWON SAMSUNG", "수원월드컵경기장" },
+            { "울산", "울산현대", "ULSAN HYUNDAI", "문수축구경기장" },
+            { "포항", "포항스틸러스", "POHANG STEELERS", "포항스틸야드" },
+            { "전북", "전북현대", "JEONBUK HYUNDAI", "전주월드컵경기장" },
+            { "부산", "부산아이파크", "BUSAN IPARK", "부산아시아드경기장" },
+            { "인천", "인천유나이티드", "INCHEON UNITED", "인천축구전용경기장" },
+            { "대구", "대구FC", "DAEGU FC", "DGB대구은행파크" },
+            { "광주", "광주FC", "GWANGJU FC", "광주축구전용구장" },
+            { "제주", "제주유나이티드", "JEJU UNITED", "제주월드컵경기장" },
+            { "대전", "대전하나시티즌", "DAEJEON HANA", "대전월드컵경기장" },
+            { "강원", "강원FC", "GANGWON FC", "춘천송암스포츠타운" } };
+
+    private static final String[] SURNAMES = { "김", "이", "박", "최", "정", "강", "조", "윤", "장", "임", "한", "오", "손", "황" };
+    private static final String[] SURNAMES_EN = { "KIM", "LEE", "PARK", "CHOI", "JUNG", "KANG", "CHO", "YOON", "JANG", "LIM", "HAN", "OH", "SON", "HWANG" };
+    private static final String[] SYLLABLES = { "민", "준", "서", "현", "우", "지", "호", "성", "진", "영", "흥", "재", "동", "수", "태", "승" };
+    private static final String[] SYLLABLES_EN = { "MIN", "JUN", "SEO", "HYUN", "WOO", "JI", "HO", "SUNG", "JIN", "YOUNG", "HEUNG", "JAE", "DONG", "SOO", "TAE", "SEUNG" };
+    private static final String[] POSITIONS = { "GK", "DF", "DF", "DF", "MF", "MF", "MF", "FW", "FW" };
+    private static final String[] NATIONS = { "대한민국", "대한민국", "대한민국", "대한민국", "브라질", "일본", "호주" };
+
+    private final long seed;
+    private final DatasetScale scale;
+
+    public KLeagueGenerator(long seed, DatasetScale scale) {
+        this.seed = seed;
+        this.scale = scale;
+    }
+
+    public DatasetScale scale() {
+        return scale;
+    }
+
+    public static String teamId(int team) {
+        return "K" + pad(team + 1, 4);
+    }
+
+    public static String stadiumId(int team) {
+        return "C" + pad(team + 1, 4);
+    }
+
+    public StadiumRow stadium(int team) {
+        RowRandom random = new RowRandom(seed, STADIUM, team);
+        String[] club = club(team);
+        return new StadiumRow(stadiumId(team), club[3] + suffix(team), teamId(team),
+                random.between(15_000, 65_000),
+                club[0] + " " + random.between(1, 300) + "번길",
+                "0" + random.between(2, 64),
+                random.between(100, 999) + "-" + random.between(1000, 9999));
+    }
+
+    public TeamRow team(int team) {
+        RowRandom random = new RowRandom(seed, TEAM, team);
+        String[] club = club(team);
+        String id = teamId(team);
+        return new TeamRow(id, club[0], club[1] + suffix(team), club[2] + suffix(team),
+                String.valueOf(DatasetScale.FIRST_SEASON + random.nextInt(40)),
+                String.valueOf(random.between(100, 999)), String.valueOf(random.between(100, 999)),
+                club[0] + " " + random.between(1, 300) + "번길",
+                "0" + random.between(2, 64),
+                random.between(100, 999) + "-" + random.between(1000, 9999),
+                random.between(100, 999) + "-" + random.between(1000, 9999),
+                "http://www.example.com/" + id.toLowerCase(),
+                "(주)" + club[1], stadiumId(team));
+    }
+
+    /**
+     * @param index 0부터 players()-1 (선수 번호는 index + 1, 소속 팀은 index / playersPerTeam)
+     */
+    public PlayerRow player(long index) {
+        RowRandom random = new RowRandom(seed, PLAYER, index);
+        int surname = random.nextInt(SURNAMES.length);
+        int first = random.nextInt(SYLLABLES.length);
+        int second = random.nextInt(SYLLABLES.length);
+        int birthYear = random.between(1960, 2006);
+        return new PlayerRow(index + 1,
+                SURNAMES[surname] + SYLLABLES[first] + SYLLABLES[second],
+                SURNAMES_EN[surname] + " " + SYLLABLES_EN[first] + SYLLABLES_EN[second],
+                null,
+                String.valueOf(Math.min(birthYear + 20, DatasetScale.FIRST_SEASON + scale.seasons() - 1)),
+                random.pick(POSITIONS),
+                String.valueOf(random.between(1, 99)),
+                random.pick(NATIONS),
+                birthYear + "-" + pad(random.between(1, 12), 2) + "-" + pad(random.between(1, 28), 2),
+                "1",
+                String.valueOf(random.between(168, 195)),
+                String.valueOf(random.between(60, 90)),
+                teamId((int) (index / scale.playersPerTeam())));
+    }
+
+    /**
+     * @param index 0부터 schedules()-1 (일정 id는 index + 1, 시즌은 index / schedulesPerSeason)
+     */
+    public ScheduleRow schedule(long index) {
+        RowRandom random = new RowRandom(seed, SCHEDULE, index);
+        int season = (int) Math.min(index / scale.schedulesPerSeason(), scale.seasons() - 1);
+        int home = random.nextInt(scale.teams());
+        int away = (home + 1 + random.nextInt(scale.teams() - 1)) % scale.teams();
+        return new ScheduleRow(index + 1,
+                LocalDate.of(DatasetScale.FIRST_SEASON + season, random.between(3, 11), random.between(1, 28)),
+                stadiumId(home),
+                random.nextInt(10) == 0 ? "N" : "Y",
+                teamId(home), teamId(away),
+                random.nextInt(6), random.nextInt(5));
+    }
+
+    /**
+     * 0 채움 (String.format은 행마다 호출하기에 느려 직접 처리)
+     */
+    private static String pad(int value, int width) {
+        String digits = Integer.toString(value);
+        return digits.length() >= width ? digits : "0".repeat(width - digits.length()) + digits;
+    }
+
+    private static String[] club(int team) {
+        return CLUBS[team % CLUBS.length];
+    }
+
+    private static String suffix(int team) {
+        return team < CLUBS.length ? "" : " " + (team / CLUBS.length + 1);
+    }
+}
@@ -0,0 +1,64 @@
+package com.brobrown.soccerservice.datagen;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+
+/**
+ * PostgreSQL COPY FROM STDIN으로 직접 적재
+ * 행마다 INSERT 하지 않고 CSV 스트림을 그대로 서버로 보내며, 전체가 하나의 트랜잭션이다.
+ * 테이블은 soccerservice의 Flyway 마이그레이션이 먼저 만들어 둔 상태를 전제로 한다.
+ */
+public final class PostgresCopySink implements DatasetSink {
+
+    private static final int COPY_BUFFER_SIZE = 1 << 16;
+
+    private final Connection connection;
+
+    public PostgresCopySink(String url, String user, String password, boolean truncate) throws SQLException {
+        this.connection = DriverManager.getConnection(url, user, password);
+        connection.setAutoCommit(false);
+        if (truncate) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("TRUNCATE TABLE schedule, player, team, stadium CASCADE");
+            }
+        }
+    }
+
+    @Override
+    public OutputStream open(String table, String[] columns) throws IOException {
+        try {
+            String sql = "COPY " + table + " (" + String.join(", ", columns) + ") FROM STDIN WITH (FORMAT csv)";
+            return new PGCopyOutputStream(connection.unwrap(PGConnection.class), sql, COPY_BUFFER_SIZE);
+        } catch (SQLException e) {
+            throw new IOException("COPY " + table + " failed: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 명시적으로 넣은 일정 id 이후부터 시퀀스가 이어지도록 맞춘 뒤 커밋
+     */
+    @Override
+    public void finish(long maxScheduleId) throws IOException {
+        try (Statement statement = connection.createStatement()) {
+            if (maxScheduleId > 0) {
+                statement.execute("SELECT setval('schedule_seq', " + maxScheduleId + ")");
+            }
+            statement.execute("ANALYZE");
+            connection.commit();
+        } catch (SQLException e) {
+            throw new IOException("Finishing load failed: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void close() throws SQLException {
+        connection.close();
+    }
+}
@@ -0,0 +1,38 @@
+package com.brobrown.soccerservice.datagen;
+
+/**
+ * 행 단위 결정적 난수 (SplitMix64)
+ * (시드, 테이블, 행 번호)만으로 값이 정해지므로 생성 순서나 병렬 분할과 무관하게 같은 행이 나온다.
+ */
+final class RowRandom {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private long state;
+
+    RowRandom(long seed, int table, long row) {
+        this.state = mix(seed ^ mix(table * GOLDEN_GAMMA + row));
+    }
+
+    int nextInt(int bound) {
+        return (int) Math.floorMod(nextLong(), (long) bound);
+    }
+
+    int between(int fromInclusive, int toInclusive) {
+        return fromInclusive + nextInt(toInclusive - fromInclusive + 1);
+    }
+
+    <T> T pick(T[] values) {
+        return values[nextInt(values.length)];
+    }
+
+    private long nextLong() {
+        return mix(state += GOLDEN_GAMMA);
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
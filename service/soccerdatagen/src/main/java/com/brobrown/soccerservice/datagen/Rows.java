@@ -0,0 +1,71 @@
+package com.brobrown.soccerservice.datagen;
+
+import java.io.IOException;
+import java.time.LocalDate;
+
+/**
+ * 생성되는 행 (컬럼 순서는 COLUMNS와 같고 Hibernate 기본 명명 규칙의 snake_case 컬럼명을 사용)
+ */
+public final class Rows {
+
+    private Rows() {
+    }
+
+    public record StadiumRow(String stadiumId, String stadiumName, String hometeamId, Integer seatCount,
+            String address, String ddd, String tel) {
+
+        public static final String TABLE = "stadium";
+        public static final String[] COLUMNS = {
+                "stadium_id", "stadium_name", "hometeam_id", "seat_count", "address", "ddd", "tel" };
+
+        void write(CsvWriter out) throws IOException {
+            out.field(stadiumId).field(stadiumName).field(hometeamId).field(seatCount)
+                    .field(address).field(ddd).field(tel).endRow();
+        }
+    }
+
+    public record TeamRow(String teamId, String regionName, String teamName, String eTeamName, String origYyyy,
+            String zipCode1, String zipCode2, String address, String ddd, String tel, String fax,
+            String homepage, String owner, String stadiumId) {
+
+        public static final String TABLE = "team";
+        public static final String[] COLUMNS = {
+                "team_id", "region_name", "team_name", "e_team_name", "orig_yyyy", "zip_code1", "zip_code2",
+                "address", "ddd", "tel", "fax", "homepage", "owner", "stadium_id" };
+
+        void write(CsvWriter out) throws IOException {
+            out.field(teamId).field(regionName).field(teamName).field(eTeamName).field(origYyyy)
+                    .field(zipCode1).field(zipCode2).field(address).field(ddd).field(tel).field(fax)
+                    .field(homepage).field(owner).field(stadiumId).endRow();
+        }
+    }
+
+    public record PlayerRow(long playerId, String playerName, String ePlayerName, String nickname, String joinYyyy,
+            String position, String backNo, String nation, String birthDate, String solar, String height,
+            String weight, String teamId) {
+
+        public static final String TABLE = "player";
+        public static final String[] COLUMNS = {
+                "player_id", "player_name", "e_player_name", "nickname", "join_yyyy", "position", "back_no",
+                "nation", "birth_date", "solar", "height", "weight", "team_id" };
+
+        void write(CsvWriter out) throws IOException {
+            out.field(playerId).field(playerName).field(ePlayerName).field(nickname).field(joinYyyy)
+                    .field(position).field(backNo).field(nation).field(birthDate).field(solar)
+                    .field(height).field(weight).field(teamId).endRow();
+        }
+    }
+
+    public record ScheduleRow(long id, LocalDate scheDate, String stadiumId, String gubun, String hometeamId,
+            String awayteamId, Integer homeScore, Integer awayScore) {
+
+        public static final String TABLE = "schedule";
+        public static final String[] COLUMNS = {
+                "id", "sche_date", "stadium_id", "gubun", "hometeam_id", "awayteam_id", "home_score", "away_score" };
+
+        void write(CsvWriter out) throws IOException {
+            out.field(id).field(scheDate.toString()).field(stadiumId).field(gubun).field(hometeamId)
+                    .field(awayteamId).field(homeScore).field(awayScore).endRow();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.brobrown.soccerservice.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.brobrown.soccerservice.datagen.DatasetScale;
+import com.brobrown.soccerservice.datagen.KLeagueGenerator;
+import com.brobrown.soccerservice.datagen.Rows.PlayerRow;
+import com.brobrown.soccerservice.datagen.Rows.ScheduleRow;
+import com.brobrown.soccerservice.datagen.Rows.StadiumRow;
+import com.brobrown.soccerservice.datagen.Rows.TeamRow;
+import com.brobrown.soccerservice.loadtest.LoadTestConfig.DataScale;
+import com.brobrown.soccerservice.player.PlayerModel;
+import com.brobrown.soccerservice.schedule.domain.ScheduleDTO;
+import com.brobrown.soccerservice.stadium.domain.StadiumDTO;
+import com.brobrown.soccerservice.team.domain.TeamDTO;
+
+/**
+ * 고정 시드 합성 K리그 데이터 (팀/경기장/선수/일정)
+ * 행은 soccerdatagen의 KLeagueGenerator가 만들며 여기서는 API 적재용 DTO로 옮기기만 한다.
+ * 모든 FK(선수 -> 팀, 팀/일정 -> 경기장, 일정 -> 홈/원정 팀)가 실제 존재하는 값을 가리킨다.
+ */
+final class KLeagueDataset {
+
+    final List<StadiumDTO> stadiums = new ArrayList<>();
+    final List<TeamDTO> teams = new ArrayList<>();
+    final List<PlayerModel> players = new ArrayList<>();
+    final List<ScheduleDTO> schedules = new ArrayList<>();
+    /** 검색 부하에 쓰는 실제 존재하는 검색어 (선수 성/이름 앞부분, 팀명, 지역명) */
+    final List<String> keywords = new ArrayList<>();
+
+    KLeagueDataset(long seed, DataScale scale) {
+        KLeagueGenerator generator = new KLeagueGenerator(seed, new DatasetScale(scale.teams(), scale.playersPerTeam(),
+                scale.seasons(), (long) scale.seasons() * scale.schedulesPerSeason()));
+        DatasetScale size = generator.scale();
+
+        for (int i = 0; i < size.teams(); i++) {
+            StadiumRow stadium = generator.stadium(i);
+            stadiums.add(StadiumDTO.builder()
+                    .stadiumUk(stadium.stadiumId()).stadiumName(stadium.stadiumName()).hometeamId(stadium.hometeamId())
+                    .seatCount(stadium.seatCount()).address(stadium.address()).ddd(stadium.ddd()).tel(stadium.tel())
+                    .build());
+            TeamRow team = generator.team(i);
+            teams.add(TeamDTO.builder()
+                    .teamId(team.teamId()).regionName(team.regionName()).teamName(team.teamName())
+                    .eTeamName(team.eTeamName()).origYyyy(team.origYyyy()).stadiumId(team.stadiumId())
+                    .homepage(team.homepage())
+                    .build());
+            keywords.add(team.regionName());
+            keywords.add(team.teamName());
+        }
+
+        for (long i = 0; i < size.players(); i++) {
+            PlayerRow player = generator.player(i);
+            players.add(PlayerModel.builder()
+                    .playerId(player.playerId()).playerName(player.playerName()).ePlayerName(player.ePlayerName())
+                    .joinYyyy(player.joinYyyy()).position(player.position()).backNo(player.backNo())
+                    .nation(player.nation()).height(player.height()).weight(player.weight())
+                    .teamId(player.teamId())
+                    .build());
+            if (i % 10 == 0) {
+                keywords.add(player.playerName().substring(0, 2));
+            }
+        }
+
+        for (long i = 0; i < size.schedules(); i++) {
+            ScheduleRow schedule = generator.schedule(i);
+            schedules.add(ScheduleDTO.builder()
+                    .stadiumUk(schedule.stadiumId()).scheDate(schedule.scheDate()).gubun(schedule.gubun())
+                    .hometeamId(schedule.hometeamId()).awayteamId(schedule.awayteamId())
+                    .homeScore(schedule.homeScore()).awayScore(schedule.awayScore())
+                    .build());
+        }
+    }
+}
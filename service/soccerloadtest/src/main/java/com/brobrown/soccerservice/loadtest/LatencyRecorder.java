@@ -0,0 +1,54 @@
+package com.brobrown.soccerservice.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * 시나리오별 지연시간/오류 집계
+ * 지연시간은 요청이 "도착했어야 하는 시각"부터 잰다(coordinated omission 보정).
+ * 서버가 밀려 요청이 늦게 보내졌다면 그 대기 시간도 지연에 포함된다.
+ */
+final class LatencyRecorder {
+
+    private final String scenario;
+    private long[] latencies = new long[1024];
+    private int count;
+    private int errors;
+
+    LatencyRecorder(String scenario) {
+        this.scenario = scenario;
+    }
+
+    synchronized void record(long latencyNanos, boolean ok) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = latencyNanos;
+        if (!ok) {
+            errors++;
+        }
+    }
+
+    synchronized Stats stats(double seconds) {
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        return new Stats(scenario, count, errors, count / seconds,
+                percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99),
+                count == 0 ? 0 : sorted[count - 1] / 1_000_000.0);
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    record Stats(String scenario, int count, int errors, double throughput,
+            double p50Millis, double p95Millis, double p99Millis, double maxMillis) {
+
+        double errorRate() {
+            return count == 0 ? 0 : (double) errors / count;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.brobrown.soccerservice.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * 부하 테스트 설정 (loadtest.properties + -D 시스템 프로퍼티로 덮어쓰기)
+ *
+ * @param seed          데이터/요청 순서 난수 시드 (같은 시드면 같은 부하)
+ * @param rate          초당 요청 도착 수 (개방형 모델: 응답과 무관하게 일정)
+ * @param warmup        측정에서 제외하는 초기 구간
+ * @param duration      측정 구간
+ * @param timeout       요청 타임아웃 (초과 시 오류로 집계)
+ * @param data          합성 데이터 규모
+ * @param mix           시나리오 이름 -> 비중
+ * @param sloP99Millis  시나리오 이름 -> p99 상한(ms)
+ * @param maxErrorRate  허용 오류율
+ * @param report        보고서 파일 경로 (없으면 콘솔만)
+ */
+public record LoadTestConfig(
+        long seed,
+        int rate,
+        Duration warmup,
+        Duration duration,
+        Duration timeout,
+        DataScale data,
+        Map<String, Double> mix,
+        Map<String, Long> sloP99Millis,
+        double maxErrorRate,
+        String report) {
+
+    public record DataScale(int teams, int playersPerTeam, int seasons, int schedulesPerSeason) {
+    }
+
+    public static LoadTestConfig load() {
+        Properties properties = new Properties();
+        try (InputStream in = LoadTestConfig.class.getResourceAsStream("/loadtest.properties")) {
+            if (in != null) {
+                properties.load(in);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        System.getProperties().forEach((key, value) -> {
+            String name = key.toString();
+            if (name.startsWith("loadtest.") || name.startsWith("slo.")) {
+                properties.setProperty(name, value.toString());
+            }
+        });
+
+        Map<String, Double> mix = new LinkedHashMap<>();
+        Map<String, Long> slo = new LinkedHashMap<>();
+        for (String name : properties.stringPropertyNames()) {
+            if (name.startsWith("loadtest.mix.")) {
+                mix.put(name.substring("loadtest.mix.".length()), Double.parseDouble(properties.getProperty(name)));
+            } else if (name.startsWith("slo.") && name.endsWith(".p99-ms")) {
+                slo.put(name.substring("slo.".length(), name.length() - ".p99-ms".length()),
+                        Long.parseLong(properties.getProperty(name)));
+            }
+        }
+
+        return new LoadTestConfig(
+                Long.parseLong(properties.getProperty("loadtest.seed", "20240301")),
+                Integer.parseInt(properties.getProperty("loadtest.rate", "200")),
+                duration(properties.getProperty("loadtest.warmup", "10s")),
+                duration(properties.getProperty("loadtest.duration", "60s")),
+                duration(properties.getProperty("loadtest.timeout", "5s")),
+                new DataScale(
+                        Integer.parseInt(properties.getProperty("loadtest.data.teams", "24")),
+                        Integer.parseInt(properties.getProperty("loadtest.data.players-per-team", "150")),
+                        Integer.parseInt(properties.getProperty("loadtest.data.seasons", "40")),
+                        Integer.parseInt(properties.getProperty("loadtest.data.schedules-per-season", "240"))),
+                mix,
+                slo,
+                Double.parseDouble(properties.getProperty("slo.max-error-rate", "0.001")),
+                properties.getProperty("loadtest.report"));
+    }
+
+    /**
+     * "500ms", "10s", "2m" 형식
+     */
+    static Duration duration(String value) {
+        String text = value.trim();
+        if (text.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(text.substring(0, text.length() - 2)));
+        }
+        long amount = Long.parseLong(text.substring(0, text.length() - 1));
+        return switch (text.charAt(text.length() - 1)) {
+            case 's' -> Duration.ofSeconds(amount);
+            case 'm' -> Duration.ofMinutes(amount);
+            default -> throw new IllegalArgumentException("Unsupported duration: " + value);
+        };
+    }
+}
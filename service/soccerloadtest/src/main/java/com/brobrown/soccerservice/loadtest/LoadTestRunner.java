@@ -0,0 +1,226 @@
+package com.brobrown.soccerservice.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.brobrown.soccerservice.SoccerserviceApplication;
+import com.brobrown.soccerservice.loadtest.LatencyRecorder.Stats;
+import com.brobrown.soccerservice.player.PlayerModel;
+import com.brobrown.soccerservice.schedule.domain.ScheduleDTO;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+/**
+ * soccerservice 부하 테스트 진입점
+ * 1. soccerservice를 H2(PostgreSQL 모드) + 임의 포트로 같은 JVM에서 띄운다 (외부 DB/네트워크 불필요).
+ * 2. 합성 K리그 데이터를 bulk/saveAll 엔드포인트로 적재한다.
+ * 3. 검색/자동완성/조회/쓰기/bulk 시나리오를 개방형 부하로 실행하고 처리량과 지연 분위수를 보고한다.
+ * 4. 설정된 SLO(p99, 오류율)를 넘는 시나리오가 있으면 종료 코드 1로 끝난다.
+ */
+public final class LoadTestRunner {
+
+    private static final int SEED_CHUNK = 500;
+    private static final int BULK_BATCH = 50;
+
+    private final LoadTestConfig config;
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+    private final HttpClient client = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private String baseUrl;
+
+    private LoadTestRunner(LoadTestConfig config) {
+        this.config = config;
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.load();
+        boolean passed;
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(SoccerserviceApplication.class)
+                .profiles("loadtest")
+                .run(args)) {
+            LoadTestRunner runner = new LoadTestRunner(config);
+            runner.baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            passed = runner.run();
+        }
+        System.exit(passed ? 0 : 1);
+    }
+
+    private boolean run() throws Exception {
+        KLeagueDataset dataset = new KLeagueDataset(config.seed(), config.data());
+        long seedStart = System.nanoTime();
+        seed(dataset);
+        log("데이터 적재 완료 - 팀 %d, 선수 %d, 일정 %d (%.1f s)", dataset.teams.size(), dataset.players.size(),
+                dataset.schedules.size(), (System.nanoTime() - seedStart) / 1e9);
+
+        OpenModelDriver driver = new OpenModelDriver(client, scenarios(dataset));
+        log("부하 시작 - %d req/s, warmup %s, duration %s", config.rate(), config.warmup(), config.duration());
+        Map<String, LatencyRecorder> recorders = driver.run(config.seed(), config.rate(),
+                config.warmup(), config.duration(), config.timeout());
+
+        return report(recorders);
+    }
+
+    private void seed(KLeagueDataset dataset) throws Exception {
+        post("/stadium/bulk", "application/x-ndjson", ndjson(dataset.stadiums));
+        post("/team/bulk", "application/x-ndjson", ndjson(dataset.teams));
+        for (int i = 0; i < dataset.players.size(); i += SEED_CHUNK) {
+            List<PlayerModel> chunk = dataset.players.subList(i, Math.min(i + SEED_CHUNK, dataset.players.size()));
+            post("/player/all", "application/json", objectMapper.writeValueAsString(chunk));
+        }
+        post("/schedule/bulk", "application/x-ndjson", ndjson(dataset.schedules));
+    }
+
+    private List<Scenario> scenarios(KLeagueDataset dataset) {
+        List<String> keywords = dataset.keywords;
+        int players = dataset.players.size();
+        int teams = dataset.teams.size();
+        String[] searchTypes = { "player", "team", "all" };
+        AtomicLong nextPlayerId = new AtomicLong(players + 1_000_000L);
+
+        List<Scenario> scenarios = new ArrayList<>();
+        add(scenarios, "search", random -> get("/search/findByKeyword?type=" + searchTypes[random.nextInt(searchTypes.length)]
+                + "&keyword=" + encode(keywords.get(random.nextInt(keywords.size())))));
+        add(scenarios, "suggest", random -> {
+            String keyword = keywords.get(random.nextInt(keywords.size()));
+            return get("/search/suggest?keyword=" + encode(keyword.substring(0, 1 + random.nextInt(keyword.length()))));
+        });
+        add(scenarios, "read", random -> switch (random.nextInt(4)) {
+            case 0 -> get("/player/" + (1 + random.nextInt(players)));
+            case 1 -> get("/team/" + dataset.teams.get(random.nextInt(teams)).getTeamId());
+            case 2 -> get("/stadium/" + dataset.stadiums.get(random.nextInt(teams)).getStadiumUk());
+            default -> get("/schedule/all?size=50");
+        });
+        add(scenarios, "write", random -> {
+            PlayerModel player = PlayerModel.builder()
+                    .playerId(random.nextBoolean() ? nextPlayerId.getAndIncrement() : 1L + random.nextInt(players))
+                    .playerName("부하" + random.nextInt(10_000))
+                    .position("MF")
+                    .teamId(dataset.teams.get(random.nextInt(teams)).getTeamId())
+                    .build();
+            return json("/player/save", player);
+        });
+        add(scenarios, "bulk", random -> {
+            List<ScheduleDTO> batch = new ArrayList<>(BULK_BATCH);
+            for (int i = 0; i < BULK_BATCH; i++) {
+                ScheduleDTO source = dataset.schedules.get(random.nextInt(dataset.schedules.size()));
+                batch.add(ScheduleDTO.builder()
+                        .stadiumUk(source.getStadiumUk()).scheDate(source.getScheDate()).gubun("N")
+                        .hometeamId(source.getHometeamId()).awayteamId(source.getAwayteamId())
+                        .build());
+            }
+            return HttpRequest.newBuilder(URI.create(baseUrl + "/schedule/bulk"))
+                    .header("Content-Type", "application/x-ndjson")
+                    .POST(HttpRequest.BodyPublishers.ofString(ndjson(batch)))
+                    .build();
+        });
+        return scenarios;
+    }
+
+    private void add(List<Scenario> scenarios, String name, Function<Random, HttpRequest> next) {
+        double weight = config.mix().getOrDefault(name, 0.0);
+        if (weight > 0) {
+            scenarios.add(new Scenario(name, weight, next));
+        }
+    }
+
+    private boolean report(Map<String, LatencyRecorder> recorders) throws IOException {
+        double seconds = config.duration().toMillis() / 1000.0;
+        StringBuilder out = new StringBuilder();
+        out.append(String.format("%-8s %8s %9s %9s %9s %9s %9s %8s  %s%n",
+                "scenario", "count", "req/s", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)", "errors", "SLO"));
+        boolean passed = true;
+        int total = 0;
+        for (LatencyRecorder recorder : recorders.values()) {
+            Stats stats = recorder.stats(seconds);
+            total += stats.count();
+            Long p99Slo = config.sloP99Millis().get(stats.scenario());
+            boolean ok = (p99Slo == null || stats.p99Millis() <= p99Slo) && stats.errorRate() <= config.maxErrorRate();
+            passed &= ok;
+            out.append(String.format("%-8s %8d %9.1f %9.2f %9.2f %9.2f %9.2f %8d  %s%n",
+                    stats.scenario(), stats.count(), stats.throughput(), stats.p50Millis(), stats.p95Millis(),
+                    stats.p99Millis(), stats.maxMillis(), stats.errors(),
+                    (ok ? "PASS" : "FAIL") + " (p99 <= " + (p99Slo == null ? "-" : p99Slo + "ms")
+                            + ", errors <= " + config.maxErrorRate() * 100 + "%)"));
+        }
+        out.append(String.format("total %d requests, %.1f req/s (target %d req/s) -> %s%n",
+                total, total / seconds, config.rate(), passed ? "PASS" : "FAIL"));
+
+        System.out.print(out);
+        if (config.report() != null) {
+            Path path = Path.of(config.report());
+            Files.createDirectories(path.getParent());
+            Files.writeString(path, out);
+        }
+        return passed;
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build();
+    }
+
+    private HttpRequest json(String path, Object body) {
+        try {
+            return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void post(String path, String contentType, String body) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", contentType)
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        if (!OpenModelDriver.succeeded(response)) {
+            throw new IllegalStateException("데이터 적재 실패 " + path + ": " + response.statusCode() + " " + response.body());
+        }
+    }
+
+    private String ndjson(List<?> rows) {
+        StringBuilder out = new StringBuilder();
+        try {
+            for (Object row : rows) {
+                out.append(objectMapper.writeValueAsString(row)).append('\n');
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+        return out.toString();
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private static void log(String format, Object... args) {
+        System.out.println(String.format(format, args));
+    }
+}
@@ -0,0 +1,94 @@
+package com.brobrown.soccerservice.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 개방형(open-model) 부하 생성기
+ * 요청 도착 간격을 포아송 과정(지수 분포)으로 미리 정하고 응답을 기다리지 않고 보낸다.
+ * 서버가 느려져도 도착률이 줄지 않으므로 폐쇄형(고정 동시 사용자) 부하와 달리 지연 증가가 그대로 드러난다.
+ */
+final class OpenModelDriver {
+
+    private final HttpClient client;
+    private final List<Scenario> scenarios;
+    private final double totalWeight;
+
+    OpenModelDriver(HttpClient client, List<Scenario> scenarios) {
+        this.client = client;
+        this.scenarios = scenarios;
+        this.totalWeight = scenarios.stream().mapToDouble(Scenario::weight).sum();
+    }
+
+    /**
+     * warmup + duration 동안 초당 rate건을 보내고 측정 구간의 결과만 시나리오별로 집계
+     */
+    Map<String, LatencyRecorder> run(long seed, int rate, Duration warmup, Duration duration, Duration timeout)
+            throws InterruptedException {
+        Map<String, LatencyRecorder> recorders = new LinkedHashMap<>();
+        scenarios.forEach(scenario -> recorders.put(scenario.name(), new LatencyRecorder(scenario.name())));
+
+        Random random = new Random(seed);
+        List<CompletableFuture<?>> inFlight = new ArrayList<>();
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+        double meanIntervalNanos = 1_000_000_000.0 / rate;
+
+        for (long intended = start; intended < end;
+                intended += (long) (-Math.log(1 - random.nextDouble()) * meanIntervalNanos)) {
+            Scenario scenario = pick(random);
+            HttpRequest request = scenario.next().apply(random);
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            long scheduledAt = intended;
+            LatencyRecorder recorder = intended >= measureFrom ? recorders.get(scenario.name()) : null;
+            inFlight.add(client.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                    .orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+                    .whenComplete((response, error) -> {
+                        if (recorder != null) {
+                            recorder.record(System.nanoTime() - scheduledAt, error == null && succeeded(response));
+                        }
+                    }));
+        }
+
+        try {
+            CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new))
+                    .get(timeout.toMillis() * 2, TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            // 개별 실패/타임아웃은 whenComplete에서 오류로 집계됨
+        }
+        return recorders;
+    }
+
+    /**
+     * HTTP 2xx 이면서 Messenger.code가 200인 응답만 성공
+     */
+    static boolean succeeded(HttpResponse<String> response) {
+        return response.statusCode() / 100 == 2 && response.body().contains("\"code\":200");
+    }
+
+    private Scenario pick(Random random) {
+        double point = random.nextDouble() * totalWeight;
+        for (Scenario scenario : scenarios) {
+            point -= scenario.weight();
+            if (point < 0) {
+                return scenario;
+            }
+        }
+        return scenarios.get(scenarios.size() - 1);
+    }
+}
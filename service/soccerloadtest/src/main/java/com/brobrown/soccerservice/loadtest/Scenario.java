@@ -0,0 +1,12 @@
+package com.brobrown.soccerservice.loadtest;
+
+import java.net.http.HttpRequest;
+import java.util.Random;
+import java.util.function.Function;
+
+/**
+ * 부하 시나리오 (이름 + 다음 요청 생성기)
+ * 요청 생성은 스케줄러 스레드 하나에서 시드 난수로 하므로 같은 시드면 같은 요청 순서가 된다.
+ */
+record Scenario(String name, double weight, Function<Random, HttpRequest> next) {
+}
@@ -0,0 +1,11 @@
+package com.brobrown.soccerservice.common;
+
+/**
+ * 대량 적재 결과
+ *
+ * @param received 요청 본문에서 읽은 행 수
+ * @param inserted 새로 추가된 행 수
+ * @param updated  기존 행을 덮어쓴 수
+ */
+public record BulkIngestResult(long received, long inserted, long updated) {
+}
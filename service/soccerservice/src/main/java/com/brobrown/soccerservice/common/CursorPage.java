@@ -0,0 +1,84 @@
+package com.brobrown.soccerservice.common;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 키셋(seek) 페이지 응답
+ * nextCursor는 마지막 행의 키를 인코딩한 불투명 문자열이며 다음 요청의 cursor로 그대로 전달한다.
+ *
+ * @param content    현재 페이지 데이터
+ * @param nextCursor 다음 페이지 커서 (마지막 페이지면 null)
+ * @param hasNext    다음 페이지 존재 여부
+ */
+public record CursorPage<T>(List<T> content, String nextCursor, boolean hasNext) {
+
+    /**
+     * limit + 1건으로 조회한 결과에서 페이지를 만든다.
+     *
+     * @param rows  키 오름차순으로 limit + 1건까지 조회한 결과
+     * @param limit 페이지 크기
+     * @param key   커서로 사용할 정렬 키
+     */
+    public static <T> CursorPage<T> of(List<T> rows, int limit, Function<T, ?> key) {
+        if (rows.size() <= limit) {
+            return new CursorPage<>(rows, null, false);
+        }
+        List<T> content = rows.subList(0, limit);
+        String next = encode(String.valueOf(key.apply(content.get(limit - 1))));
+        return new CursorPage<>(content, next, true);
+    }
+
+    /**
+     * 페이지 내용을 응답 모델로 변환 (커서는 그대로 유지)
+     */
+    public <R> CursorPage<R> map(Function<T, R> mapper) {
+        return new CursorPage<>(content.stream().map(mapper).toList(), nextCursor, hasNext);
+    }
+
+    public static String encode(String key) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서를 키로 복원 (커서가 없으면 null)
+     */
+    public static String decode(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException();
+        }
+    }
+
+    /**
+     * 숫자 키 커서를 복원 (커서가 없으면 null)
+     */
+    public static Long decodeLong(String cursor) {
+        String key = decode(cursor);
+        if (key == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(key);
+        } catch (NumberFormatException e) {
+            throw new InvalidCursorException();
+        }
+    }
+
+    /**
+     * 변조되었거나 형식이 맞지 않는 커서 (서비스에서 400으로 응답)
+     */
+    public static class InvalidCursorException extends IllegalArgumentException {
+
+        public InvalidCursorException() {
+            super("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.brobrown.soccerservice.common;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 요청 본문을 List로 한 번에 바인딩하지 않고 일정 크기 단위로 나누어 읽는다.
+ * JSON 배열과 NDJSON(한 줄에 JSON 하나) 모두 지원한다.
+ */
+public final class JsonChunks {
+
+    private JsonChunks() {
+    }
+
+    /**
+     * @return 읽은 전체 행 수
+     */
+    public static <T> long forEachChunk(ObjectMapper objectMapper, InputStream in, Class<T> type,
+            int chunkSize, Consumer<List<T>> consumer) throws IOException {
+        long count = 0;
+        try (MappingIterator<T> rows = objectMapper.readerFor(type).readValues(in)) {
+            List<T> chunk = new ArrayList<>(chunkSize);
+            while (rows.hasNextValue()) {
+                chunk.add(rows.nextValue());
+                count++;
+                if (chunk.size() == chunkSize) {
+                    consumer.accept(chunk);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                consumer.accept(chunk);
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,40 @@
+package com.brobrown.soccerservice.common;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * NDJSON(한 줄에 JSON 하나) 스트리밍 출력
+ * 하나의 JsonGenerator를 재사용하며 행마다 flush하지 않고 버퍼 단위로 내보낸다.
+ * 출력 스트림은 닫지 않는다 (응답 스트림은 컨테이너가 관리).
+ */
+public class NdjsonWriter implements Closeable {
+
+    private final JsonGenerator generator;
+    private final ObjectWriter writer;
+
+    public NdjsonWriter(ObjectMapper objectMapper, OutputStream out) throws IOException {
+        this.generator = objectMapper.getFactory().createGenerator(out)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        // 같은 generator에 루트 값을 이어 쓰면 기본 구분자(공백)가 두 번째 줄부터 앞에 붙으므로 끈다
+        this.generator.setRootValueSeparator(null);
+        this.writer = objectMapper.writer()
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    public void write(Object row) throws IOException {
+        writer.writeValue(generator, row);
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
@@ -0,0 +1,90 @@
+package com.brobrown.soccerservice.common;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키로 동시에 들어온 호출을 하나의 실행으로 합친다 (single-flight)
+ * 먼저 온 호출(leader)만 loader를 실행하고, 실행 중에 같은 키로 들어온 호출(follower)은
+ * leader의 CompletableFuture를 최대 maxWait까지 기다렸다가 같은 결과를 받는다.
+ * 결과는 실행이 끝나면 바로 버리므로 캐시와 달리 오래된 값을 돌려주지 않는다.
+ * 기다리다 시간이 지나거나 leader가 실패하면 follower는 loader를 실행하지 않고 fallback 값을 돌려준다.
+ * (leader가 느리거나 실패한 것은 대개 하위 자원이 밀린 것이므로 follower까지 실행하면 부하가 한꺼번에 몰린다)
+ */
+public final class SingleFlight<K, V> {
+
+    public enum Role {
+        /** loader를 실행한 호출 */
+        LEADER,
+        /** leader의 결과를 받은 호출 */
+        FOLLOWER,
+        /** maxWait 안에 결과가 오지 않아 fallback 값을 받은 호출 */
+        TIMEOUT,
+        /** leader가 실패해 fallback 값을 받은 호출 */
+        FAILED
+    }
+
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Duration maxWait;
+    private final Function<K, V> fallback;
+    private final Consumer<Role> listener;
+
+    /**
+     * @param maxWait   follower가 leader 결과를 기다리는 최대 시간
+     * @param fallback  maxWait 안에 결과가 오지 않거나 leader가 실패한 follower가 대신 돌려줄 값 (빠른 실패 응답)
+     * @param listener  호출마다 역할을 알려 받는 콜백 (지표 기록용)
+     */
+    public SingleFlight(Duration maxWait, Function<K, V> fallback, Consumer<Role> listener) {
+        this.maxWait = maxWait;
+        this.fallback = fallback;
+        this.listener = listener;
+    }
+
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> pending = new CompletableFuture<>();
+        CompletableFuture<V> leader = inFlight.putIfAbsent(key, pending);
+        if (leader == null) {
+            listener.accept(Role.LEADER);
+            try {
+                V value = loader.get();
+                pending.complete(value);
+                return value;
+            } catch (RuntimeException | Error e) {
+                pending.completeExceptionally(e);
+                throw e;
+            } finally {
+                inFlight.remove(key, pending);
+            }
+        }
+        try {
+            V value = leader.get(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+            listener.accept(Role.FOLLOWER);
+            return value;
+        } catch (TimeoutException e) {
+            listener.accept(Role.TIMEOUT);
+            return fallback.apply(key);
+        } catch (ExecutionException e) {
+            listener.accept(Role.FAILED);
+            return fallback.apply(key);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for in-flight call: " + key);
+        }
+    }
+
+    /**
+     * 현재 실행 중인 키 수
+     */
+    public int inFlight() {
+        return inFlight.size();
+    }
+}
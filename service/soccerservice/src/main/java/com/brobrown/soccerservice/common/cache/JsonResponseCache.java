@@ -0,0 +1,100 @@
+package com.brobrown.soccerservice.common.cache;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.brobrown.soccerservice.common.event.DomainChangeBatch;
+import com.brobrown.soccerservice.config.ResponseCacheProperties;
+import com.brobrown.soccerservice.player.Player;
+import com.brobrown.soccerservice.schedule.domain.Schedule;
+import com.brobrown.soccerservice.stadium.domain.Stadium;
+import com.brobrown.soccerservice.team.domain.Team;
+
+/**
+ * 직렬화가 끝난 JSON 응답 바이트를 보관하는 LRU 캐시
+ * 캐시 적중 시 Hibernate 조회와 Jackson 직렬화를 모두 건너뛴다.
+ * 서비스 계층의 쓰기가 커밋되면(DomainChangeBatch) 영향을 받는 경로의 응답을 제거한다.
+ */
+@Component
+public class JsonResponseCache {
+
+    /** 엔티티 변경 시 함께 무효화할 경로 (응답 모델에 다른 엔티티 값이 포함되는 경우 포함) */
+    private static final Map<Class<?>, List<String>> DEPENDENT_PATHS = Map.of(
+            Player.class, List.of("/player/", "/search/"),
+            Team.class, List.of("/team/", "/stadium/", "/player/", "/search/"),
+            Stadium.class, List.of("/stadium/", "/team/", "/schedule/", "/search/"),
+            Schedule.class, List.of("/schedule/", "/search/"));
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final AtomicLong generation = new AtomicLong();
+    private final Map<String, CachedResponse> entries;
+    private final int maxEntryBytes;
+
+    public JsonResponseCache(ResponseCacheProperties properties) {
+        int maxEntries = properties.maxEntries();
+        this.maxEntryBytes = properties.maxEntryBytes();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    public CachedResponse get(String key) {
+        lock.lock();
+        try {
+            return entries.get(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 응답 생성을 시작하기 전에 읽어 두는 무효화 세대 번호
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * 응답 생성 중 무효화가 일어났다면(세대 번호 변경) 오래된 응답일 수 있으므로 저장하지 않는다.
+     */
+    public void put(String key, long generationAtStart, byte[] body, String contentType) {
+        if (body.length > maxEntryBytes) {
+            return;
+        }
+        lock.lock();
+        try {
+            if (generation.get() == generationAtStart) {
+                entries.put(key, new CachedResponse(body, contentType));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @EventListener
+    public void onDomainChange(DomainChangeBatch batch) {
+        lock.lock();
+        try {
+            generation.incrementAndGet();
+            DEPENDENT_PATHS.forEach((entityType, prefixes) -> {
+                if (batch.contains(entityType)) {
+                    entries.keySet().removeIf(key -> prefixes.stream().anyMatch(key::startsWith));
+                }
+            });
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public record CachedResponse(byte[] body, String contentType) {
+    }
+}
@@ -0,0 +1,74 @@
+package com.brobrown.soccerservice.common.cache;
+
+import java.io.IOException;
+
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import com.brobrown.soccerservice.common.cache.JsonResponseCache.CachedResponse;
+import com.brobrown.soccerservice.common.limit.ConcurrencyLimitFilter;
+import com.brobrown.soccerservice.config.ResponseCacheProperties;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 설정된 GET 경로의 응답을 JsonResponseCache에서 바로 내보내는 필터
+ * 캐시 키는 요청 URI + 쿼리 스트링이며 X-Cache 헤더로 적중 여부를 알려준다.
+ * 적중 응답이 동시 요청 한도를 쓰지 않도록 ConcurrencyLimitFilter보다 바깥에서 실행한다.
+ */
+@Component
+@Order(ConcurrencyLimitFilter.ORDER - 1)
+@RequiredArgsConstructor
+public class JsonResponseCacheFilter extends OncePerRequestFilter {
+
+    /** Messenger.code가 200이 아닌 응답에 표시되는 요청 속성 (캐시하지 않음) */
+    public static final String UNCACHEABLE = JsonResponseCacheFilter.class.getName() + ".UNCACHEABLE";
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final JsonResponseCache cache;
+    private final ResponseCacheProperties properties;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!properties.enabled() || !"GET".equals(request.getMethod())) {
+            return true;
+        }
+        String uri = request.getRequestURI();
+        return properties.paths().stream().noneMatch(pattern -> pathMatcher.match(pattern, uri));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String key = request.getQueryString() == null
+                ? request.getRequestURI()
+                : request.getRequestURI() + "?" + request.getQueryString();
+
+        CachedResponse cached = cache.get(key);
+        if (cached != null) {
+            response.setStatus(HttpStatus.OK.value());
+            response.setContentType(cached.contentType());
+            response.setContentLength(cached.body().length);
+            response.setHeader("X-Cache", "HIT");
+            response.getOutputStream().write(cached.body());
+            return;
+        }
+
+        long generation = cache.generation();
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        wrapper.setHeader("X-Cache", "MISS");
+        chain.doFilter(request, wrapper);
+        if (wrapper.getStatus() == HttpStatus.OK.value() && request.getAttribute(UNCACHEABLE) == null) {
+            cache.put(key, generation, wrapper.getContentAsByteArray(), wrapper.getContentType());
+        }
+        wrapper.copyBodyToResponse();
+    }
+}
@@ -0,0 +1,39 @@
+package com.brobrown.soccerservice.common.cache;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import com.brobrown.soccerservice.common.Messenger;
+
+/**
+ * 서비스가 오류 코드(Messenger.code != 200)를 HTTP 200으로 돌려주는 경우가 있어
+ * 직렬화 전에 표시해 두고 응답 캐시에 저장되지 않게 한다.
+ * 게이트웨이 응답 캐시도 저장하지 않도록 Cache-Control: no-store를 붙인다.
+ */
+@RestControllerAdvice
+public class MessengerCacheAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType,
+            ServerHttpRequest request, ServerHttpResponse response) {
+        if (body instanceof Messenger messenger && messenger.getCode() != 200
+                && request instanceof ServletServerHttpRequest servletRequest) {
+            servletRequest.getServletRequest().setAttribute(JsonResponseCacheFilter.UNCACHEABLE, Boolean.TRUE);
+            response.getHeaders().setCacheControl(CacheControl.noStore());
+        }
+        return body;
+    }
+}
@@ -0,0 +1,15 @@
+package com.brobrown.soccerservice.common.event;
+
+/**
+ * 엔티티 한 건의 변경 내역
+ *
+ * @param type   변경 종류
+ * @param entity 커밋 시점의 엔티티 (Player, Team, Stadium, Schedule)
+ */
+public record DomainChange(ChangeType type, Object entity) {
+
+    public enum ChangeType {
+        UPSERT,
+        DELETE
+    }
+}
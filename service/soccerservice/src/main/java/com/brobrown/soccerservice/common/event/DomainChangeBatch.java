@@ -0,0 +1,50 @@
+package com.brobrown.soccerservice.common.event;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 트랜잭션 하나에서 발생한 엔티티 변경 묶음
+ * 커밋 이후 트랜잭션당 한 번만 발행되며 같은 엔티티의 변경은 마지막 상태로 합쳐진다.
+ * 대량 적재처럼 변경이 너무 많으면 엔티티를 붙잡아 두지 않고 타입만 기록하므로(overflowed)
+ * 소비자는 해당 타입 전체를 다시 읽거나 무효화해야 한다.
+ *
+ * @param changes    엔티티별 변경 (overflowed면 비어 있음)
+ * @param overflowed 개별 변경 대신 타입만 기록된 엔티티 타입
+ */
+public record DomainChangeBatch(List<DomainChange> changes, Set<Class<?>> overflowed) {
+
+    public DomainChangeBatch(List<DomainChange> changes) {
+        this(changes, Set.of());
+    }
+
+    /**
+     * 특정 엔티티 타입의 변경만 추출
+     */
+    public <T> List<T> entities(Class<T> entityType, DomainChange.ChangeType type) {
+        return changes.stream()
+                .filter(change -> change.type() == type && entityType.isInstance(change.entity()))
+                .map(change -> entityType.cast(change.entity()))
+                .collect(Collectors.toList());
+    }
+
+    public boolean contains(Class<?> entityType) {
+        return isOverflowed(entityType)
+                || changes.stream().anyMatch(change -> entityType.isInstance(change.entity()));
+    }
+
+    /**
+     * 개별 변경 없이 타입만 기록된 묶음인지 여부
+     */
+    public boolean isOverflowed() {
+        return !overflowed.isEmpty();
+    }
+
+    /**
+     * 해당 타입의 변경이 개별 엔티티 없이 타입으로만 기록됐는지 여부 (전체를 다시 읽어야 함)
+     */
+    public boolean isOverflowed(Class<?> entityType) {
+        return overflowed.stream().anyMatch(entityType::isAssignableFrom);
+    }
+}
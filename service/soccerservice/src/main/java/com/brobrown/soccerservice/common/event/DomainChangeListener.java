@@ -0,0 +1,101 @@
+package com.brobrown.soccerservice.common.event;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.brobrown.soccerservice.common.event.DomainChange.ChangeType;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * JPA 엔티티 리스너
+ * 트랜잭션 동안 발생한 변경을 모아 두었다가 커밋 이후 DomainChangeBatch 하나로 발행한다.
+ * 롤백된 트랜잭션의 변경은 발행하지 않는다.
+ * 대량 적재는 청크마다 영속성 컨텍스트를 비우므로, 변경이 MAX_TRACKED_CHANGES건을 넘으면
+ * 엔티티 참조를 버리고 엔티티 타입만 기록해 커밋 전까지 전체 행이 메모리에 남지 않게 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DomainChangeListener {
+
+    /** 트랜잭션당 엔티티 단위로 추적하는 최대 변경 수 (넘으면 타입 단위로 기록) */
+    static final int MAX_TRACKED_CHANGES = 10_000;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Object entity) {
+        record(entity, ChangeType.UPSERT);
+    }
+
+    @PostRemove
+    public void onRemove(Object entity) {
+        record(entity, ChangeType.DELETE);
+    }
+
+    private void record(Object entity, ChangeType type) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eventPublisher.publishEvent(new DomainChangeBatch(List.of(new DomainChange(type, entity))));
+            return;
+        }
+        Buffer buffer = (Buffer) TransactionSynchronizationManager.getResource(this);
+        if (buffer == null) {
+            buffer = new Buffer();
+            TransactionSynchronizationManager.bindResource(this, buffer);
+            TransactionSynchronizationManager.registerSynchronization(buffer);
+        }
+        buffer.add(entity, type);
+    }
+
+    /**
+     * 트랜잭션별 변경 버퍼
+     */
+    private final class Buffer implements TransactionSynchronization {
+        private final Map<Object, ChangeType> changes = new IdentityHashMap<>();
+        private final Set<Class<?>> overflowed = new HashSet<>();
+
+        void add(Object entity, ChangeType type) {
+            if (!overflowed.isEmpty()) {
+                overflowed.add(entity.getClass());
+                return;
+            }
+            // 영속성 컨텍스트 안에서 같은 행은 같은 인스턴스이므로 인스턴스 기준으로 합친다
+            changes.put(entity, type);
+            if (changes.size() > MAX_TRACKED_CHANGES) {
+                changes.keySet().forEach(tracked -> overflowed.add(tracked.getClass()));
+                changes.clear();
+            }
+        }
+
+        @Override
+        public void afterCommit() {
+            if (!overflowed.isEmpty()) {
+                eventPublisher.publishEvent(new DomainChangeBatch(List.of(), Set.copyOf(overflowed)));
+                return;
+            }
+            List<DomainChange> batch = new ArrayList<>(changes.size());
+            changes.forEach((entity, type) -> batch.add(new DomainChange(type, entity)));
+            if (!batch.isEmpty()) {
+                eventPublisher.publishEvent(new DomainChangeBatch(batch));
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(DomainChangeListener.this);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.brobrown.soccerservice.common.limit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 지연 시간 기울기(gradient)로 조정되는 동시 요청 한도
+ * 장기 평균 응답 시간(부하가 없을 때의 기준선)과 단기 평균을 비교해, 단기 지연이 기준선보다 늘어나면
+ * 그 비율만큼 한도를 줄이고 안정적이면 sqrt(limit)만큼 늘린다. 한도의 절반도 쓰지 않는 동안에는
+ * 지연만 기록하고 한도를 바꾸지 않는다. 하위 계층이 과부하(503)를 알리면 즉시 BACKOFF_RATIO배로 줄인다.
+ */
+final class AdaptiveLimit {
+
+    private static final double SMOOTHING = 0.2;
+    private static final double RTT_TOLERANCE = 1.5;
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double BACKOFF_RATIO = 0.9;
+    private static final int SHORT_WINDOW = 10;
+    private static final int LONG_WINDOW = 600;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile double limit;
+    private double shortRtt;
+    private double longRtt;
+
+    AdaptiveLimit(int initialLimit, int minLimit, int maxLimit) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = clamp(initialLimit);
+    }
+
+    /**
+     * 한도 안이면 처리 중 요청 수(자신 포함)를, 초과면 -1을 반환
+     */
+    int tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                return -1;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return current + 1;
+            }
+        }
+    }
+
+    /**
+     * 응답 시간을 반영하지 않고 반납 (스트리밍처럼 응답 크기가 시간을 결정하는 경우)
+     */
+    void release() {
+        inFlight.decrementAndGet();
+    }
+
+    void release(long rttNanos, int inFlightAtStart, boolean overloaded) {
+        inFlight.decrementAndGet();
+        lock.lock();
+        try {
+            if (overloaded) {
+                limit = clamp(limit * BACKOFF_RATIO);
+                return;
+            }
+            shortRtt = shortRtt == 0 ? rttNanos : shortRtt + (rttNanos - shortRtt) / SHORT_WINDOW;
+            longRtt = longRtt == 0 ? rttNanos : longRtt + (rttNanos - longRtt) / LONG_WINDOW;
+            if (longRtt / shortRtt > 2) {
+                // 부하가 풀린 뒤 높게 남은 기준선을 빨리 내린다
+                longRtt *= 0.95;
+            }
+            if (inFlightAtStart < limit / 2) {
+                return;
+            }
+            double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, RTT_TOLERANCE * longRtt / shortRtt));
+            double target = limit * gradient + Math.sqrt(limit);
+            limit = clamp(limit * (1 - SMOOTHING) + target * SMOOTHING);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int limit() {
+        return (int) limit;
+    }
+
+    int inFlight() {
+        return inFlight.get();
+    }
+
+    private double clamp(double value) {
+        return Math.max(minLimit, Math.min(maxLimit, value));
+    }
+}
@@ -0,0 +1,174 @@
+package com.brobrown.soccerservice.common.limit;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.brobrown.soccerservice.common.Messenger;
+import com.brobrown.soccerservice.config.ConcurrencyLimitProperties;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 컨트롤러 앞단의 적응형 동시 요청 제한 (검색/CRUD/대량 그룹별 한도)
+ * 그룹마다 AdaptiveLimit이 응답 시간으로 한도를 조정하고, 한도를 넘는 요청은 Tomcat/DB 대기열에 쌓지 않고
+ * 바로 503 + Retry-After로 돌려보내 DB가 느려질 때 지연이 누적되지 않게 한다.
+ * 응답 캐시 적중은 DB를 쓰지 않으므로 JsonResponseCacheFilter 안쪽에서 동작한다.
+ */
+@Slf4j
+@Component
+@Order(ConcurrencyLimitFilter.ORDER)
+@ConditionalOnProperty(prefix = "soccer.concurrency-limit", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    public static final int ORDER = Ordered.LOWEST_PRECEDENCE - 100;
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final ConcurrencyLimitProperties properties;
+    private final ObjectMapper objectMapper;
+    private final List<Budget> budgets = new ArrayList<>();
+    private final String retryAfterSeconds;
+
+    public ConcurrencyLimitFilter(ConcurrencyLimitProperties properties, ObjectMapper objectMapper,
+            MeterRegistry registry) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.retryAfterSeconds = String.valueOf(Math.max(1, (properties.retryAfter().toMillis() + 999) / 1000));
+        properties.budgets().forEach((name, config) -> {
+            AdaptiveLimit limit = new AdaptiveLimit(config.initialLimit(), config.minLimit(), config.maxLimit());
+            Gauge.builder("soccer.concurrency.limit", limit, AdaptiveLimit::limit)
+                    .tag("budget", name)
+                    .description("현재 동시 요청 한도")
+                    .register(registry);
+            Gauge.builder("soccer.concurrency.inflight", limit, AdaptiveLimit::inFlight)
+                    .tag("budget", name)
+                    .description("처리 중인 요청 수")
+                    .register(registry);
+            Counter rejected = Counter.builder("soccer.concurrency.rejected")
+                    .tag("budget", name)
+                    .description("한도 초과로 503을 돌려준 요청 수")
+                    .register(registry);
+            budgets.add(new Budget(name, config.paths(), limit, rejected));
+        });
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        return budgets.isEmpty()
+                || properties.excludePaths().stream().anyMatch(pattern -> pathMatcher.match(pattern, uri));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Budget budget = resolve(request.getRequestURI());
+        if (budget == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        int inFlight = budget.limit().tryAcquire();
+        if (inFlight < 0) {
+            budget.rejected().increment();
+            log.debug("concurrency.reject budget={} limit={} uri={}", budget.name(), budget.limit().limit(),
+                    request.getRequestURI());
+            reject(response, budget);
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleaseOnComplete(budget.limit()));
+            } else {
+                budget.limit().release(System.nanoTime() - start, inFlight,
+                        response.getStatus() == HttpStatus.SERVICE_UNAVAILABLE.value());
+            }
+        }
+    }
+
+    private Budget resolve(String uri) {
+        for (Budget budget : budgets) {
+            if (budget.paths().isEmpty()
+                    || budget.paths().stream().anyMatch(pattern -> pathMatcher.match(pattern, uri))) {
+                return budget;
+            }
+        }
+        return null;
+    }
+
+    private void reject(HttpServletResponse response, Budget budget) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), Messenger.builder()
+                .code(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .message("Too many concurrent " + budget.name() + " requests")
+                .build());
+    }
+
+    private record Budget(String name, List<String> paths, AdaptiveLimit limit, Counter rejected) {
+    }
+
+    /**
+     * 비동기(스트리밍) 응답은 전송이 끝날 때 반납하며, 전송 시간은 응답 크기에 좌우되므로 한도 계산에 쓰지 않는다.
+     */
+    private static final class ReleaseOnComplete implements AsyncListener {
+
+        private final AdaptiveLimit limit;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        ReleaseOnComplete(AdaptiveLimit limit) {
+            this.limit = limit;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                limit.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.brobrown.soccerservice.common.limit;
+
+import java.sql.SQLException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.brobrown.soccerservice.config.JdbcLimiterProperties;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 트랜잭션 경계(@Transactional 빈)의 동시 실행 수를 커넥션 풀 크기로 제한
+ * 가상 스레드에서는 요청 수만큼 스레드가 생기므로 제한이 없으면 모두 Hikari 대기열에 쌓였다가
+ * connectionTimeout 후 한꺼번에 실패한다. 트랜잭션 인터셉터보다 먼저 공정 세마포어 허가를 받게 해
+ * 커넥션을 잡은 작업 수를 풀 크기 이하로 유지하고, maxWait 안에 허가를 못 받으면 503으로 빨리 실패한다.
+ * 같은 스레드의 중첩 호출(서비스 -> 서비스)은 바깥 허가를 그대로 사용한다.
+ * 프록시를 거치지 않는 백그라운드 DB 작업(TransactionTemplate 재색인 등)은 runWithPermit으로 같은 허가를 받는다.
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(prefix = "soccer.jdbc-limiter", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class JdbcConcurrencyLimiter {
+
+    /** Hikari 풀 크기를 알 수 없을 때 사용하는 허가 수 (Hikari 기본 maximumPoolSize) */
+    private static final int DEFAULT_PERMITS = 10;
+
+    private static final ThreadLocal<int[]> DEPTH = ThreadLocal.withInitial(() -> new int[1]);
+
+    private final Semaphore permits;
+    private final long maxWaitNanos;
+    private final Counter rejected;
+
+    public JdbcConcurrencyLimiter(JdbcLimiterProperties properties, DataSource dataSource, MeterRegistry registry) {
+        int size = properties.permits() > 0 ? properties.permits() : poolSize(dataSource);
+        this.permits = new Semaphore(size, true);
+        this.maxWaitNanos = properties.maxWait().toNanos();
+        this.rejected = Counter.builder("soccer.jdbc.permits.rejected")
+                .description("DB 작업 허가 대기 시간 초과로 거절된 호출 수")
+                .register(registry);
+        Gauge.builder("soccer.jdbc.permits.available", permits, Semaphore::availablePermits)
+                .description("남은 DB 작업 허가 수")
+                .register(registry);
+        Gauge.builder("soccer.jdbc.permits.waiting", permits, Semaphore::getQueueLength)
+                .description("DB 작업 허가를 기다리는 스레드 수")
+                .register(registry);
+        log.info("DB 동시 실행 제한 - 허가: {}, 최대 대기: {}", size, properties.maxWait());
+    }
+
+    @Around("within(com.brobrown.soccerservice..*)"
+            + " && (@within(org.springframework.transaction.annotation.Transactional)"
+            + " || @annotation(org.springframework.transaction.annotation.Transactional))")
+    public Object limit(ProceedingJoinPoint joinPoint) throws Throwable {
+        int[] depth = DEPTH.get();
+        if (depth[0] > 0) {
+            return joinPoint.proceed();
+        }
+        if (!permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS)) {
+            rejected.increment();
+            throw new JdbcPermitTimeoutException("Database busy: " + joinPoint.getSignature().toShortString());
+        }
+        depth[0]++;
+        try {
+            return joinPoint.proceed();
+        } finally {
+            depth[0]--;
+            permits.release();
+        }
+    }
+
+    /**
+     * 애스펙트가 보지 못하는 DB 작업을 허가를 받고 실행
+     * 요청과 달리 빨리 실패할 이유가 없으므로 maxWait 없이 허가가 날 때까지 기다린다.
+     *
+     * @throws CancellationException 허가를 기다리는 중 인터럽트된 경우 (인터럽트 상태 유지)
+     */
+    public void runWithPermit(Runnable task) {
+        int[] depth = DEPTH.get();
+        if (depth[0] > 0) {
+            task.run();
+            return;
+        }
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for a database permit");
+        }
+        depth[0]++;
+        try {
+            task.run();
+        } finally {
+            depth[0]--;
+            permits.release();
+        }
+    }
+
+    /**
+     * 제한기가 켜져 있으면 허가를 받고, 꺼져 있으면(soccer.jdbc-limiter.enabled=false) 바로 실행
+     */
+    public static void runWithPermit(ObjectProvider<JdbcConcurrencyLimiter> limiter, Runnable task) {
+        JdbcConcurrencyLimiter active = limiter.getIfAvailable();
+        if (active != null) {
+            active.runWithPermit(task);
+        } else {
+            task.run();
+        }
+    }
+
+    private static int poolSize(DataSource dataSource) {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+            }
+        } catch (SQLException e) {
+            log.warn("Hikari 풀 크기 확인 실패, 기본값 {} 사용: {}", DEFAULT_PERMITS, e.getMessage());
+        }
+        return DEFAULT_PERMITS;
+    }
+}
@@ -0,0 +1,15 @@
+package com.brobrown.soccerservice.common.limit;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 제한 시간 안에 DB 작업 허가를 받지 못함 (커넥션 풀 포화)
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class JdbcPermitTimeoutException extends RuntimeException {
+
+    public JdbcPermitTimeoutException(String message) {
+        super(message);
+    }
+}
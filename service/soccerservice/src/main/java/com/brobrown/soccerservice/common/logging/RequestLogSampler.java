@@ -0,0 +1,54 @@
+package com.brobrown.soccerservice.common.logging;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.slf4j.Logger;
+import org.springframework.stereotype.Component;
+
+import com.brobrown.soccerservice.config.RequestLogProperties;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 요청 파라미터 덤프 샘플링
+ * 덤프는 DEBUG 레벨이 켜져 있고 샘플에 뽑힌 요청에서만 만들어지므로
+ * 평소에는 문자열 연결이나 파라미터 맵 순회 비용이 들지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RequestLogSampler {
+
+    private final RequestLogProperties properties;
+
+    /**
+     * 이번 요청의 파라미터를 덤프할지 여부
+     */
+    public boolean shouldDump(Logger log) {
+        if (!log.isDebugEnabled()) {
+            return false;
+        }
+        double rate = properties.paramSampleRate();
+        return rate >= 1.0 || (rate > 0 && ThreadLocalRandom.current().nextDouble() < rate);
+    }
+
+    /**
+     * 로그 출력 시점에만 포맷되는 요청 파라미터 (key=value, 쉼표 구분)
+     */
+    public static Object params(HttpServletRequest request) {
+        return new Object() {
+            @Override
+            public String toString() {
+                StringBuilder out = new StringBuilder();
+                for (Map.Entry<String, String[]> entry : request.getParameterMap().entrySet()) {
+                    if (!out.isEmpty()) {
+                        out.append(", ");
+                    }
+                    out.append(entry.getKey()).append('=').append(String.join("|", entry.getValue()));
+                }
+                return out.toString();
+            }
+        };
+    }
+}
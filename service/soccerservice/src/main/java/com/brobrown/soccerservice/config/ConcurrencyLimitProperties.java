@@ -0,0 +1,45 @@
+package com.brobrown.soccerservice.config;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 엔드포인트 그룹별 적응형 동시 요청 제한 설정
+ *
+ * @param enabled      제한 사용 여부
+ * @param retryAfter   거절 응답(503)의 Retry-After
+ * @param excludePaths 제한하지 않는 경로 (Ant 스타일)
+ * @param budgets      그룹 이름 -> 그룹 설정 (선언 순서대로 경로를 비교)
+ */
+@ConfigurationProperties(prefix = "soccer.concurrency-limit")
+public record ConcurrencyLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("1s") Duration retryAfter,
+        @DefaultValue({ "/actuator/**", "/swagger-ui/**", "/v3/api-docs/**" }) List<String> excludePaths,
+        Map<String, Budget> budgets) {
+
+    public ConcurrencyLimitProperties {
+        budgets = budgets == null ? Map.of() : budgets;
+    }
+
+    /**
+     * @param paths        이 그룹에 속하는 경로 (비어 있으면 앞 그룹에 해당하지 않는 나머지 전부)
+     * @param initialLimit 시작 동시 요청 한도
+     * @param minLimit     지연이 늘어도 내려가지 않는 하한
+     * @param maxLimit     지연이 안정적이어도 올라가지 않는 상한
+     */
+    public record Budget(
+            List<String> paths,
+            @DefaultValue("20") int initialLimit,
+            @DefaultValue("2") int minLimit,
+            @DefaultValue("200") int maxLimit) {
+
+        public Budget {
+            paths = paths == null ? List.of() : paths;
+        }
+    }
+}
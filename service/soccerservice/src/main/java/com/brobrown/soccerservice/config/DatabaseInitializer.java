@@ -2,24 +2,78 @@ package com.brobrown.soccerservice.config;
 
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.core.annotation.Order;
+import org.springframework.orm.jpa.EntityManagerHolder;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import com.brobrown.soccerservice.player.PlayerRepository;
+import com.brobrown.soccerservice.schedule.repository.ScheduleRepository;
+import com.brobrown.soccerservice.stadium.repository.StadiumRepository;
+import com.brobrown.soccerservice.team.repository.TeamRepository;
 
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.PersistenceContext;
 import jakarta.persistence.Query;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 /**
- * 데이터베이스 초기화 및 테이블 생성 확인
- * 애플리케이션 시작 시 Entity 스키마 기반으로 테이블이 생성되었는지 확인
+ * 데이터베이스 초기화 및 테이블/인덱스 확인
+ * 애플리케이션 시작 시 Flyway 마이그레이션으로 테이블과 인덱스가 만들어졌는지 확인하고,
+ * PostgreSQL이면 키워드 검색 쿼리의 실행 계획을 로그로 남긴다.
  */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 @Order(1) // 다른 초기화 로직보다 먼저 실행
 public class DatabaseInitializer implements CommandLineRunner {
 
+    /** V2~V7 마이그레이션이 만드는 인덱스 */
+    private static final List<String> EXPECTED_INDEXES = List.of(
+            "idx_player_team_id",
+            "idx_player_position",
+            "idx_schedule_stadium_date",
+            "idx_schedule_hometeam_date",
+            "idx_schedule_awayteam_date",
+            "idx_schedule_sche_date",
+            "idx_team_team_name_trgm",
+            "idx_team_e_team_name_trgm",
+            "idx_team_region_name_trgm",
+            "idx_stadium_stadium_name_trgm",
+            "idx_stadium_address_trgm",
+            "idx_player_player_name_trgm",
+            "idx_player_e_player_name_trgm",
+            "idx_player_nickname_trgm",
+            "idx_schedule_hometeam_id_trgm",
+            "idx_schedule_awayteam_id_trgm",
+            "idx_schedule_compact_date_trgm",
+            "idx_player_search_tsv",
+            "idx_team_search_tsv",
+            "idx_stadium_search_tsv",
+            "idx_schedule_search_tsv");
+
+    /** 실행 계획 확인용 검색어 (트라이그램 인덱스는 3글자 이상부터 사용됨) */
+    private static final String PLAN_KEYWORD = "월드컵";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final TeamRepository teamRepository;
+    private final StadiumRepository stadiumRepository;
+    private final PlayerRepository playerRepository;
+    private final ScheduleRepository scheduleRepository;
+
     @PersistenceContext
     private EntityManager entityManager;
 
@@ -51,10 +105,116 @@ public class DatabaseInitializer implements CommandLineRunner {
                 }
             }
             
+            if (isPostgres()) {
+                verifyIndexes();
+                logKeywordPlans();
+            } else {
+                log.info("PostgreSQL이 아니므로 인덱스/실행 계획 확인 생략");
+            }
+
             log.info("=== 데이터베이스 초기화 확인 완료 ===");
         } catch (Exception e) {
             log.error("데이터베이스 초기화 확인 중 오류 발생: {}", e.getMessage(), e);
         }
     }
-}
 
+    private boolean isPostgres() {
+        String product = entityManager.unwrap(Session.class)
+                .doReturningWork(connection -> connection.getMetaData().getDatabaseProductName());
+        return "PostgreSQL".equalsIgnoreCase(product);
+    }
+
+    private void verifyIndexes() {
+        @SuppressWarnings("unchecked")
+        List<String> indexes = entityManager.createNativeQuery(
+                "SELECT indexname FROM pg_indexes WHERE schemaname = 'public'").getResultList();
+        List<String> missing = EXPECTED_INDEXES.stream()
+                .filter(index -> !indexes.contains(index))
+                .toList();
+        if (missing.isEmpty()) {
+            log.info("✓ 인덱스 {}개 확인됨", EXPECTED_INDEXES.size());
+        } else {
+            missing.forEach(index -> log.warn("✗ 인덱스 '{}' 없음 (Flyway 마이그레이션 확인 필요)", index));
+        }
+    }
+
+    /**
+     * 각 Repository.findByKeyword 가 실제로 보내는 SQL의 EXPLAIN (ANALYZE 없이 계획만) 결과를 남겨
+     * LIKE 검색이 트라이그램 인덱스를 타는지 확인
+     */
+    private void logKeywordPlans() {
+        Map<String, Consumer<String>> searches = new LinkedHashMap<>();
+        searches.put("team", teamRepository::findByKeyword);
+        searches.put("stadium", stadiumRepository::findByKeyword);
+        searches.put("player", playerRepository::findByKeyword);
+        searches.put("schedule", scheduleRepository::findByKeyword);
+        searches.forEach((type, search) -> {
+            String sql = captureSql(search);
+            if (sql == null) {
+                log.warn("{} 키워드 검색 SQL을 확인하지 못해 실행 계획 생략", type);
+                return;
+            }
+            List<String> plan = explain(sql);
+            boolean indexed = plan.stream().anyMatch(line -> line.contains("Index"));
+            log.info("{} 키워드 검색 실행 계획 (인덱스 사용: {}):\n{}", type, indexed, String.join("\n", plan));
+        });
+    }
+
+    /**
+     * 검색을 전용 세션에서 호출하고, 첫 SQL이 JDBC로 나가기 직전에 잡아 중단한다 (실제 조회는 일어나지 않음)
+     * 세션을 트랜잭션 리소스로 묶어 두므로 Repository(@Query, EntityGraph, QueryDSL)가 이 세션으로 SQL을 만든다.
+     */
+    private String captureSql(Consumer<String> search) {
+        List<String> captured = new ArrayList<>();
+        StatementInspector inspector = sql -> {
+            captured.add(sql);
+            throw new SqlCapturedException();
+        };
+        try (Session session = entityManagerFactory.unwrap(SessionFactory.class).withOptions()
+                .statementInspector(inspector)
+                .openSession()) {
+            TransactionSynchronizationManager.bindResource(entityManagerFactory, new EntityManagerHolder(session));
+            try {
+                search.accept(PLAN_KEYWORD);
+            } catch (RuntimeException e) {
+                // SqlCapturedException 으로 중단됨 (Repository/트랜잭션 계층이 다른 예외로 감쌀 수 있음)
+            } finally {
+                TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+            }
+        }
+        return captured.isEmpty() ? null : captured.get(0);
+    }
+
+    /**
+     * 잡은 SQL의 모든 바인딩 자리에 검색 패턴(%검색어%)을 넣어 EXPLAIN
+     */
+    private List<String> explain(String sql) {
+        try (Session session = entityManagerFactory.unwrap(SessionFactory.class).openSession()) {
+            return session.doReturningWork(connection -> {
+                List<String> plan = new ArrayList<>();
+                try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                    int parameters = statement.getParameterMetaData().getParameterCount();
+                    for (int i = 1; i <= parameters; i++) {
+                        statement.setString(i, "%" + PLAN_KEYWORD + "%");
+                    }
+                    try (ResultSet rows = statement.executeQuery()) {
+                        while (rows.next()) {
+                            plan.add(rows.getString(1));
+                        }
+                    }
+                }
+                return plan;
+            });
+        }
+    }
+
+    /**
+     * SQL을 잡은 뒤 실행을 중단하기 위한 표시
+     */
+    private static final class SqlCapturedException extends RuntimeException {
+
+        SqlCapturedException() {
+            super("SQL captured for EXPLAIN", null, false, false);
+        }
+    }
+}
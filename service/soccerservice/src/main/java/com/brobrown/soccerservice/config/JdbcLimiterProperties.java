@@ -0,0 +1,20 @@
+package com.brobrown.soccerservice.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * DB 작업 동시 실행 제한 설정
+ *
+ * @param enabled 트랜잭션 경계에서 허가를 받고 실행할지 여부
+ * @param permits 동시에 트랜잭션을 실행할 수 있는 수 (0 이하이면 Hikari maximumPoolSize)
+ * @param maxWait 허가를 기다리는 최대 시간 (초과 시 503)
+ */
+@ConfigurationProperties(prefix = "soccer.jdbc-limiter")
+public record JdbcLimiterProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("0") int permits,
+        @DefaultValue("2s") Duration maxWait) {
+}
@@ -0,0 +1,36 @@
+package com.brobrown.soccerservice.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.java21.instrument.binder.jdk.VirtualThreadMetrics;
+
+/**
+ * 서비스 메서드 타이머 설정
+ * 클래스에 @Timed가 붙은 빈(서비스, 검색 퍼사드)의 public 메서드마다 class/method 태그로 시간을 잰다.
+ * 컨트롤러(http.server.requests), Repository(spring.data.repository.invocations),
+ * Hikari 커넥션 풀(hikaricp.connections.*), Hibernate 2차 캐시 리전별 적중률
+ * (hibernate.second.level.cache.requests{region,result})은 Spring Boot Actuator가 자동으로 계측한다.
+ * 캐시 적중률은 Hibernate 통계(soccer.hibernate-statistics, 기본 켬)를 끄면 기록되지 않는다.
+ * 가상 스레드 고정(pinning)은 JFR 이벤트로 jvm.threads.virtual.pinned 타이머에 기록한다.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+
+    /**
+     * synchronized 블록 안에서 I/O 대기 등으로 캐리어 스레드가 고정된 횟수/시간 (JFR jdk.VirtualThreadPinned)
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public VirtualThreadMetrics virtualThreadMetrics() {
+        return new VirtualThreadMetrics();
+    }
+}
@@ -0,0 +1,26 @@
+package com.brobrown.soccerservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 목록(findAll) 페이지 크기 설정
+ *
+ * @param defaultSize size 파라미터가 없을 때의 페이지 크기
+ * @param maxSize     요청 가능한 최대 페이지 크기
+ */
+@ConfigurationProperties(prefix = "soccer.pagination")
+public record PaginationProperties(
+        @DefaultValue("50") int defaultSize,
+        @DefaultValue("500") int maxSize) {
+
+    /**
+     * 요청된 크기를 [1, maxSize] 범위로 보정
+     */
+    public int resolve(Integer requested) {
+        if (requested == null || requested < 1) {
+            return Math.min(defaultSize, maxSize);
+        }
+        return Math.min(requested, maxSize);
+    }
+}
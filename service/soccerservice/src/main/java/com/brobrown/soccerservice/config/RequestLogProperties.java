@@ -0,0 +1,14 @@
+package com.brobrown.soccerservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 검색 경로 요청 로그 설정
+ *
+ * @param paramSampleRate 요청 파라미터/본문 덤프(DEBUG)를 남길 요청 비율 (0.0 ~ 1.0)
+ */
+@ConfigurationProperties(prefix = "soccer.request-log")
+public record RequestLogProperties(
+        @DefaultValue("0.01") double paramSampleRate) {
+}
@@ -0,0 +1,22 @@
+package com.brobrown.soccerservice.config;
+
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 직렬화된 JSON 응답 캐시 설정
+ *
+ * @param enabled       캐시 사용 여부
+ * @param maxEntries    최대 보관 응답 수 (LRU)
+ * @param maxEntryBytes 이보다 큰 응답은 캐시하지 않음
+ * @param paths         캐시할 GET 경로 패턴 (Ant 스타일)
+ */
+@ConfigurationProperties(prefix = "soccer.response-cache")
+public record ResponseCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("1000") int maxEntries,
+        @DefaultValue("262144") int maxEntryBytes,
+        @DefaultValue({ "/team/*", "/stadium/*", "/search/findByKeyword" }) List<String> paths) {
+}
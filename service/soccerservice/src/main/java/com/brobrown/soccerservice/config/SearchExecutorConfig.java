@@ -0,0 +1,20 @@
+package com.brobrown.soccerservice.config;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 통합 검색 fan-out용 실행기
+ * 검색 분기는 대부분 DB I/O 대기이므로 분기마다 가상 스레드를 하나씩 사용한다.
+ */
+@Configuration
+public class SearchExecutorConfig {
+
+    @Bean(destroyMethod = "close")
+    public ExecutorService searchExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("search-", 0).factory());
+    }
+}
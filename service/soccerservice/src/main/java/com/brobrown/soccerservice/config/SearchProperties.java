@@ -0,0 +1,33 @@
+package com.brobrown.soccerservice.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 통합 검색 설정
+ *
+ * @param branchTimeout 여러 타입 동시 검색(type=all) 시 타입별 최대 대기 시간
+ * @param topK          키워드 검색 결과 최대 건수 (관련도 상위)
+ * @param mode          키워드 검색 방식 (배포별 선택)
+ * @param coalesce      같은 (타입, 검색어)로 동시에 들어온 검색을 한 번만 실행할지 여부
+ * @param coalesceWait  실행 중인 같은 검색의 결과를 기다리는 최대 시간 (초과 시 503)
+ */
+@ConfigurationProperties(prefix = "soccer.search")
+public record SearchProperties(
+        @DefaultValue("2s") Duration branchTimeout,
+        @DefaultValue("50") int topK,
+        @DefaultValue("index") Mode mode,
+        @DefaultValue("true") boolean coalesce,
+        @DefaultValue("1s") Duration coalesceWait) {
+
+    public enum Mode {
+        /** 인메모리 n-gram 인덱스 (생성 전에는 LIKE) */
+        INDEX,
+        /** PostgreSQL tsvector 전문 검색 (인메모리 인덱스를 만들지 않음, 실패 시 LIKE) */
+        FULLTEXT,
+        /** DB LIKE 검색만 사용 */
+        LIKE
+    }
+}
@@ -0,0 +1,29 @@
+package com.brobrown.soccerservice.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * JPQL에서 쓰는 DB 함수 등록 (META-INF/services 로 Hibernate가 로드)
+ * soccer_compact_date(date): 일정 날짜의 yyyyMMdd 문자열. PostgreSQL에서는 V4 마이그레이션의 IMMUTABLE 함수를
+ * 그대로 호출해 같은 식으로 만든 트라이그램 인덱스(V7)를 타게 하고, 그 외 DB(H2 테스트)는 to_char로 대신한다.
+ */
+public class SoccerFunctionContributor implements FunctionContributor {
+
+    public static final String COMPACT_DATE = "soccer_compact_date";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        String pattern = functionContributions.getDialect() instanceof PostgreSQLDialect
+                ? COMPACT_DATE + "(?1)"
+                : "to_char(?1, 'YYYYMMDD')";
+        functionContributions.getFunctionRegistry()
+                .patternDescriptorBuilder(COMPACT_DATE, pattern)
+                .setExactArgumentCount(1)
+                .setInvariantType(functionContributions.getTypeConfiguration()
+                        .getBasicTypeRegistry().resolve(StandardBasicTypes.STRING))
+                .register();
+    }
+}
@@ -1,6 +1,5 @@
 package com.brobrown.soccerservice.controller;
 
-import java.util.Enumeration;
 import java.util.Map;
 
 import org.springframework.http.ResponseEntity;
@@ -12,17 +11,23 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.brobrown.soccerservice.common.Messenger;
+import com.brobrown.soccerservice.common.logging.RequestLogSampler;
+import com.brobrown.soccerservice.search.SoccerSuggestIndex;
 import com.brobrown.soccerservice.service.SoccerSearchFacade;
 
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/search")
 public class SoccerSearchController {
 
     private final SoccerSearchFacade soccerSearchFacade;
+    private final SoccerSuggestIndex soccerSuggestIndex;
+    private final RequestLogSampler requestLogSampler;
 
     /**
      * 통합 검색 엔드포인트 (GET 방식)
@@ -30,8 +35,8 @@ public class SoccerSearchController {
      * 
      * 예시: GET /soccer/search/findByKeyword?type=player&keyword=손흥민
      * 
-     * @param request HttpServletRequest (디버깅용)
-     * @param type    검색할 엔티티 타입 (player, team, stadium, schedule)
+     * @param request HttpServletRequest (샘플링된 요청 파라미터 로그용)
+     * @param type    검색할 엔티티 타입 (player, team, stadium, schedule, all)
      * @param keyword 검색어
      * @return 검색 결과
      */
@@ -41,29 +46,14 @@ public class SoccerSearchController {
             @RequestParam(value = "type", required = false) String type,
             @RequestParam(value = "keyword", required = false) String keyword) {
 
-        System.out.println("========================================");
-        System.out.println("=== SoccerSearchController: 검색 요청 수신 (GET) ===");
-        System.out.println("요청 URL: " + request.getRequestURL());
-        System.out.println("Query String: " + request.getQueryString());
-        System.out.println("요청 Method: " + request.getMethod());
-
-        // 모든 파라미터 출력
-        System.out.println("--- 모든 요청 파라미터 ---");
-        Enumeration<String> paramNames = request.getParameterNames();
-        while (paramNames.hasMoreElements()) {
-            String paramName = paramNames.nextElement();
-            String paramValue = request.getParameter(paramName);
-            System.out.println("  " + paramName + " = " + paramValue);
+        if (requestLogSampler.shouldDump(log)) {
+            log.debug("search.request method=GET uri={} params=[{}]", request.getRequestURI(),
+                    RequestLogSampler.params(request));
         }
 
-        System.out.println("--- @RequestParam으로 받은 값 ---");
-        System.out.println("type: [" + type + "]");
-        System.out.println("keyword: [" + keyword + "]");
-        System.out.println("========================================");
-
         // 파라미터 검증
         if (type == null || type.isEmpty()) {
-            System.out.println("!!! 오류: type 파라미터가 없습니다 !!!");
+            log.debug("search.rejected reason=missing_type");
             return ResponseEntity.badRequest().body(
                     Messenger.builder()
                             .code(400)
@@ -72,7 +62,7 @@ public class SoccerSearchController {
         }
 
         if (keyword == null || keyword.isEmpty()) {
-            System.out.println("!!! 오류: keyword 파라미터가 없습니다 !!!");
+            log.debug("search.rejected reason=missing_keyword");
             return ResponseEntity.badRequest().body(
                     Messenger.builder()
                             .code(400)
@@ -80,17 +70,14 @@ public class SoccerSearchController {
                             .build());
         }
 
-        Messenger result = soccerSearchFacade.searchByKeyword(type, keyword);
-
-        System.out.println("=== SoccerSearchController: 검색 결과 반환 ===");
-        return ResponseEntity.ok(result);
+        return ResponseEntity.ok(soccerSearchFacade.searchByKeyword(type, keyword));
     }
 
     /**
      * 통합 검색 엔드포인트 (POST 방식)
      * 리액트에서 axios.post()로 호출할 때 사용
      * 
-     * @param request     HttpServletRequest (디버깅용)
+     * @param request     HttpServletRequest (샘플링된 요청 파라미터 로그용)
      * @param requestBody 요청 본문 (JSON)
      * @return 검색 결과
      */
@@ -99,30 +86,11 @@ public class SoccerSearchController {
             HttpServletRequest request,
             @RequestBody(required = false) Map<String, String> requestBody) {
 
-        System.out.println("========================================");
-        System.out.println("=== SoccerSearchController: 검색 요청 수신 (POST) ===");
-        System.out.println("요청 URL: " + request.getRequestURL());
-        System.out.println("요청 Method: " + request.getMethod());
-        System.out.println("Content-Type: " + request.getContentType());
-
-        if (requestBody != null) {
-            System.out.println("--- Request Body ---");
-            requestBody.forEach((key, value) -> {
-                System.out.println("  " + key + " = " + value);
-            });
-        } else {
-            System.out.println("!!! Request Body가 null입니다 !!!");
-        }
-
-        // Query String도 확인
-        System.out.println("Query String: " + request.getQueryString());
-        Enumeration<String> paramNames = request.getParameterNames();
-        while (paramNames.hasMoreElements()) {
-            String paramName = paramNames.nextElement();
-            String paramValue = request.getParameter(paramName);
-            System.out.println("  " + paramName + " = " + paramValue);
+        if (requestLogSampler.shouldDump(log)) {
+            log.debug("search.request method=POST uri={} contentType={} body={} params=[{}]",
+                    request.getRequestURI(), request.getContentType(), requestBody,
+                    RequestLogSampler.params(request));
         }
-        System.out.println("========================================");
 
         String type = null;
         String keyword = null;
@@ -141,11 +109,9 @@ public class SoccerSearchController {
             keyword = request.getParameter("keyword");
         }
 
-        System.out.println("최종 추출된 값 - type: [" + type + "], keyword: [" + keyword + "]");
-
         // 파라미터 검증
         if (type == null || type.isEmpty()) {
-            System.out.println("!!! 오류: type 파라미터가 없습니다 !!!");
+            log.debug("search.rejected reason=missing_type");
             return ResponseEntity.badRequest().body(
                     Messenger.builder()
                             .code(400)
@@ -154,7 +120,7 @@ public class SoccerSearchController {
         }
 
         if (keyword == null || keyword.isEmpty()) {
-            System.out.println("!!! 오류: keyword 파라미터가 없습니다 !!!");
+            log.debug("search.rejected reason=missing_keyword");
             return ResponseEntity.badRequest().body(
                     Messenger.builder()
                             .code(400)
@@ -162,10 +128,37 @@ public class SoccerSearchController {
                             .build());
         }
 
-        Messenger result = soccerSearchFacade.searchByKeyword(type, keyword);
+        return ResponseEntity.ok(soccerSearchFacade.searchByKeyword(type, keyword));
+    }
 
-        System.out.println("=== SoccerSearchController: 검색 결과 반환 ===");
-        return ResponseEntity.ok(result);
+    /**
+     * 자동완성 엔드포인트 (입력할 때마다 호출)
+     * DB를 조회하지 않고 메모리의 접두사 트라이에서만 찾는다.
+     * 자모 단위로 비교하므로 입력 중인 음절("손흐")도 "손흥민"과 일치한다.
+     * 
+     * 예시: GET /soccer/search/suggest?keyword=손흐&limit=5
+     * 
+     * @param keyword 입력 중인 검색어
+     * @param limit   최대 후보 수 (최대 10)
+     * @return 자동완성 후보 (선수/팀/경기장/지역)
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<Messenger> suggest(
+            @RequestParam(value = "keyword", required = false) String keyword,
+            @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        if (keyword == null || keyword.isBlank()) {
+            return ResponseEntity.badRequest().body(
+                    Messenger.builder()
+                            .code(400)
+                            .message("keyword parameter is required")
+                            .build());
+        }
+        return ResponseEntity.ok(
+                Messenger.builder()
+                        .code(200)
+                        .message("Suggestions for: " + keyword)
+                        .data(soccerSuggestIndex.suggest(keyword, limit))
+                        .build());
     }
 
     /**
@@ -173,9 +166,7 @@ public class SoccerSearchController {
      */
     @GetMapping("/test")
     public ResponseEntity<Messenger> test() {
-        System.out.println("========================================");
-        System.out.println("!!! TEST 엔드포인트 호출됨 !!!");
-        System.out.println("========================================");
+        log.info("search.test endpoint reached");
         return ResponseEntity.ok(
                 Messenger.builder()
                         .code(200)
@@ -1,8 +1,11 @@
 package com.brobrown.soccerservice.player;
 
+import com.brobrown.soccerservice.common.event.DomainChangeListener;
 import com.brobrown.soccerservice.team.domain.Team;
 
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
@@ -10,6 +13,7 @@ import jakarta.persistence.Table;
 import lombok.Data;
 
 @Entity
+@EntityListeners(DomainChangeListener.class)
 @Table(name = "player")
 @Data
 public class Player {
@@ -39,7 +43,7 @@ public class Player {
 
     private String weight;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "team_id")
     private Team team;
 
@@ -2,9 +2,13 @@ package com.brobrown.soccerservice.player;
 
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
@@ -12,11 +16,14 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.brobrown.soccerservice.common.Messenger;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/player")
@@ -49,37 +56,54 @@ public class PlayerController {
         return ResponseEntity.ok(playerService.findById(id));
     }
 
+    /**
+     * 키셋 페이지 목록 조회
+     * 
+     * 예시: GET /player/all?size=50 → 응답의 nextCursor를 다음 요청의 cursor로 전달
+     */
     @GetMapping("/all")
-    public ResponseEntity<Messenger> findAll() {
-        return ResponseEntity.ok(playerService.findAll());
+    public ResponseEntity<Messenger> findAll(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
+        return ResponseEntity.ok(playerService.findAll(cursor, size));
+    }
+
+    /**
+     * 전체 선수 NDJSON 스트리밍 내보내기 (분석 배치용)
+     * 
+     * 예시: GET /player/export → 한 줄에 선수 하나
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export() {
+        StreamingResponseBody body = playerService::export;
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    /**
+     * 포지션/국적/팀/등번호/키워드 조건으로 선수 목록 페이징 조회
+     * 
+     * 예시: GET /player/filter?position=FW&teamId=K01&page=0&size=20&sort=playerName,desc
+     * 정렬 가능 속성: playerId, playerName, ePlayerName, nickname, position, backNo, nation, teamId, teamName
+     */
+    @GetMapping("/filter")
+    public ResponseEntity<Messenger> filter(@ModelAttribute PlayerSearchCondition condition,
+            @PageableDefault(size = 20) Pageable pageable) {
+        return ResponseEntity.ok(playerService.search(condition, pageable));
     }
 
     /**
      * 키워드로 선수 검색
-     * Eureka Discovery를 거쳐 이 컨트롤러로 도달한 데이터를 sysout으로 확인
+     * Eureka Discovery를 거쳐 도달한 요청은 DEBUG 레벨에서 검색어와 결과 코드로 확인
      * 
      * @param keyword 검색어
      * @return 검색 결과
      */
     @GetMapping("/search")
     public ResponseEntity<Messenger> searchByKeyword(@RequestParam String keyword) {
-        System.out.println("========================================");
-        System.out.println("=== PlayerController: 검색 요청 수신 ===");
-        System.out.println("검색어: " + keyword);
-        System.out.println("요청 경로: /player/search");
-        System.out.println("========================================");
-
-        // PlayerService를 통해 데이터 조회
         Messenger result = playerService.findByKeyword(keyword);
-
-        System.out.println("=== PlayerController: 검색 결과 ===");
-        System.out.println("결과 코드: " + result.getCode());
-        System.out.println("결과 메시지: " + result.getMessage());
-        if (result.getData() != null) {
-            System.out.println("결과 데이터: " + result.getData());
-        }
-        System.out.println("========================================");
-
+        log.debug("player.search keyword={} code={}", keyword, result.getCode());
         return ResponseEntity.ok(result);
     }
 }
@@ -1,5 +1,21 @@
 package com.brobrown.soccerservice.player;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
 public interface PlayerRepositoryCustom {
-    
+
+    List<PlayerSummary> findByKeyword(String keyword);
+
+    List<PlayerSummary> findSummariesByIds(Collection<Long> playerIds);
+
+    List<PlayerSummary> findSummariesAfter(Long afterPlayerId, int limit);
+
+    Page<PlayerSummary> search(PlayerSearchCondition condition, Pageable pageable);
+
+    Stream<PlayerSummary> streamAll();
 }
@@ -1,8 +1,171 @@
 package com.brobrown.soccerservice.player;
 
+import static com.brobrown.soccerservice.player.QPlayer.player;
+import static com.brobrown.soccerservice.team.domain.QTeam.team;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
+import com.querydsl.core.types.dsl.StringPath;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import lombok.RequiredArgsConstructor;
 
+/**
+ * QueryDSL 기반 선수 조회
+ * 모든 조회는 PlayerSummary로 바로 프로젝션하여 Player/Team 엔티티 그래프를 로딩하지 않는다.
+ */
 @RequiredArgsConstructor
-public class PlayerRepositoryImpl implements PlayerRepositoryCustom{
+public class PlayerRepositoryImpl implements PlayerRepositoryCustom {
+
+    private static final int EXPORT_FETCH_SIZE = 1000;
+
+    /** Pageable 정렬 속성 -> 정렬 컬럼 (조회 응답 PlayerSummary의 필드명) */
+    private static final Map<String, ComparableExpressionBase<?>> SORTABLE = Map.of(
+            "playerId", player.playerId,
+            "playerName", player.playerName,
+            "ePlayerName", player.ePlayerName,
+            "nickname", player.nickname,
+            "position", player.position,
+            "backNo", player.backNo,
+            "nation", player.nation,
+            "teamId", team.teamId,
+            "teamName", team.teamName);
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public List<PlayerSummary> findByKeyword(String keyword) {
+        return selectSummary()
+                .where(keywordContains(keyword))
+                .fetch();
+    }
+
+    @Override
+    public List<PlayerSummary> findSummariesByIds(Collection<Long> playerIds) {
+        if (playerIds.isEmpty()) {
+            return List.of();
+        }
+        return selectSummary()
+                .where(player.playerId.in(playerIds))
+                .fetch();
+    }
+
+    /**
+     * 키셋 페이지 조회 (playerId 오름차순, afterPlayerId 초과)
+     */
+    @Override
+    public List<PlayerSummary> findSummariesAfter(Long afterPlayerId, int limit) {
+        return selectSummary()
+                .where(afterPlayerId == null ? null : player.playerId.gt(afterPlayerId))
+                .orderBy(player.playerId.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public Page<PlayerSummary> search(PlayerSearchCondition condition, Pageable pageable) {
+        BooleanExpression[] predicates = {
+                keywordContains(condition.getKeyword()),
+                eq(player.position, condition.getPosition()),
+                eq(player.nation, condition.getNation()),
+                eq(player.team.teamId, condition.getTeamId()),
+                eq(player.backNo, condition.getBackNo())
+        };
+
+        JPAQuery<PlayerSummary> query = selectSummary()
+                .where(predicates)
+                .orderBy(orderBy(pageable.getSort()));
+        if (pageable.isPaged()) {
+            query.offset(pageable.getOffset())
+                    .limit(pageable.getPageSize());
+        }
+        List<PlayerSummary> content = query.fetch();
+
+        JPAQuery<Long> countQuery = queryFactory
+                .select(player.count())
+                .from(player)
+                .where(predicates);
+        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+    }
+
+    /**
+     * 전체 선수를 playerId 순서로 스트리밍 (트랜잭션 안에서 사용, 사용 후 close 필요)
+     */
+    @Override
+    public Stream<PlayerSummary> streamAll() {
+        return selectSummary()
+                .orderBy(player.playerId.asc())
+                .setHint(HibernateHints.HINT_FETCH_SIZE, EXPORT_FETCH_SIZE)
+                .stream();
+    }
+
+    private JPAQuery<PlayerSummary> selectSummary() {
+        return queryFactory
+                .select(summary())
+                .from(player)
+                .leftJoin(player.team, team);
+    }
+
+    private static ConstructorExpression<PlayerSummary> summary() {
+        return Projections.constructor(PlayerSummary.class,
+                player.playerId,
+                player.playerName,
+                player.ePlayerName,
+                player.nickname,
+                player.position,
+                player.backNo,
+                player.nation,
+                team.teamId,
+                team.teamName);
+    }
+
+    /**
+     * 요청한 정렬 뒤에 playerId를 붙여 같은 값끼리도 페이지 간 순서가 고정되게 한다.
+     * 지원하지 않는 속성은 무시하지 않고 오류로 알린다.
+     */
+    private static OrderSpecifier<?>[] orderBy(Sort sort) {
+        List<OrderSpecifier<?>> orders = new ArrayList<>();
+        boolean byPlayerId = false;
+        for (Sort.Order order : sort) {
+            ComparableExpressionBase<?> path = SORTABLE.get(order.getProperty());
+            if (path == null) {
+                throw new IllegalArgumentException("Unsupported sort property: " + order.getProperty());
+            }
+            orders.add(order.isAscending() ? path.asc() : path.desc());
+            byPlayerId |= path == player.playerId;
+        }
+        if (!byPlayerId) {
+            orders.add(player.playerId.asc());
+        }
+        return orders.toArray(OrderSpecifier[]::new);
+    }
+
+    private static BooleanExpression keywordContains(String keyword) {
+        if (keyword == null || keyword.isEmpty()) {
+            return null;
+        }
+        return player.playerName.contains(keyword)
+                .or(player.ePlayerName.contains(keyword))
+                .or(player.nickname.contains(keyword));
+    }
+
+    private static BooleanExpression eq(StringPath path, String value) {
+        return value == null || value.isEmpty() ? null : path.eq(value);
+    }
 }
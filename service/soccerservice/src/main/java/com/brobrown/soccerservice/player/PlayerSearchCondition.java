@@ -0,0 +1,21 @@
+package com.brobrown.soccerservice.player;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 선수 목록 필터 조건 (null인 조건은 무시)
+ */
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PlayerSearchCondition {
+    private String keyword;
+    private String position;
+    private String nation;
+    private String teamId;
+    private String backNo;
+}
@@ -1,8 +1,13 @@
 package com.brobrown.soccerservice.player;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
+
 import com.brobrown.soccerservice.common.Messenger;
+import com.brobrown.soccerservice.search.RankedKeys;
 
 public interface PlayerService {
     Messenger save(PlayerModel playerDTO);
@@ -13,10 +18,16 @@ public interface PlayerService {
 
     Messenger findById(String id);
 
-    Messenger findAll();
+    Messenger findAll(String cursor, Integer size);
 
     Messenger saveAll(List<PlayerModel> playerDTOs);
 
     Messenger findByKeyword(String keyword);
 
+    Messenger findByKeyword(String keyword, RankedKeys hits);
+
+    Messenger search(PlayerSearchCondition condition, Pageable pageable);
+
+    void export(OutputStream out) throws IOException;
+
 }
@@ -1,52 +1,303 @@
 package com.brobrown.soccerservice.player;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PagedModel;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.brobrown.soccerservice.common.CursorPage;
+import com.brobrown.soccerservice.common.CursorPage.InvalidCursorException;
 import com.brobrown.soccerservice.common.Messenger;
+import com.brobrown.soccerservice.common.NdjsonWriter;
+import com.brobrown.soccerservice.config.PaginationProperties;
+import com.brobrown.soccerservice.config.SearchProperties;
+import com.brobrown.soccerservice.search.RankedKeys;
+import com.brobrown.soccerservice.search.SearchFields;
+import com.brobrown.soccerservice.search.SearchHits;
+import com.brobrown.soccerservice.search.SearchType;
+import com.brobrown.soccerservice.team.domain.Team;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.annotation.Timed;
+
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
+@Timed(value = "soccer.service", histogram = true)
 public class PlayerServiceImpl implements PlayerService {
 
+    private final PlayerRepository playerRepository;
+    private final PaginationProperties paginationProperties;
+    private final SearchProperties searchProperties;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+
     @Override
     public Messenger save(PlayerModel playerDTO) {
-        return null;
+        try {
+            Player player = dtoToEntity(playerDTO);
+            @SuppressWarnings("null")
+            Player saved = playerRepository.save(player);
+            return Messenger.builder()
+                    .code(200)
+                    .message("Player saved successfully")
+                    .data(PlayerSummary.from(saved))
+                    .build();
+        } catch (Exception e) {
+            return Messenger.builder()
+                    .code(500)
+                    .message("Error saving player: " + e.getMessage())
+                    .build();
+        }
     }
 
     @Override
     public Messenger update(PlayerModel playerDTO) {
-        return null;
+        try {
+            Long playerId = playerDTO.getPlayerId();
+            if (playerId == null) {
+                throw new RuntimeException("Player ID is required");
+            }
+            Player player = playerRepository.findById(playerId)
+                    .orElseThrow(() -> new RuntimeException("Player not found"));
+            updateEntityFromDto(player, playerDTO);
+            @SuppressWarnings("null")
+            Player updated = playerRepository.save(player);
+            return Messenger.builder()
+                    .code(200)
+                    .message("Player updated successfully")
+                    .data(PlayerSummary.from(updated))
+                    .build();
+        } catch (Exception e) {
+            return Messenger.builder()
+                    .code(500)
+                    .message("Error updating player: " + e.getMessage())
+                    .build();
+        }
     }
 
     @Override
     public Messenger delete(String id) {
-        return null;
+        try {
+            Long playerId = Long.parseLong(id);
+            playerRepository.deleteById(playerId);
+            return Messenger.builder()
+                    .code(200)
+                    .message("Player deleted successfully")
+                    .build();
+        } catch (Exception e) {
+            return Messenger.builder()
+                    .code(500)
+                    .message("Error deleting player: " + e.getMessage())
+                    .build();
+        }
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Messenger findById(String id) {
-        return null;
+        try {
+            Long playerId = Long.parseLong(id);
+            PlayerSummary player = playerRepository.findSummariesByIds(List.of(playerId)).stream()
+                    .findFirst()
+                    .orElseThrow(() -> new RuntimeException("Player not found"));
+            return Messenger.builder()
+                    .code(200)
+                    .message("Player found")
+                    .data(player)
+                    .build();
+        } catch (Exception e) {
+            return Messenger.builder()
+                    .code(500)
+                    .message("Error finding player: " + e.getMessage())
+                    .build();
+        }
     }
 
     @Override
-    public Messenger findAll() {
-        return null;
+    @Transactional(readOnly = true)
+    public Messenger findAll(String cursor, Integer size) {
+        try {
+            int limit = paginationProperties.resolve(size);
+            Long after = CursorPage.decodeLong(cursor);
+            List<PlayerSummary> players = playerRepository.findSummariesAfter(after, limit + 1);
+            return Messenger.builder()
+                    .code(200)
+                    .message("Players retrieved successfully")
+                    .data(CursorPage.of(players, limit, PlayerSummary::playerId))
+                    .build();
+        } catch (InvalidCursorException e) {
+            return Messenger.builder()
+                    .code(400)
+                    .message(e.getMessage())
+                    .build();
+        } catch (Exception e) {
+            return Messenger.builder()
+                    .code(500)
+                    .message("Error retrieving players: " + e.getMessage())
+                    .build();
+        }
     }
 
     @Override
     public Messenger saveAll(List<PlayerModel> playerDTOs) {
-        return null;
+        try {
+            List<Player> players = playerDTOs.stream()
+                    .map(this::dtoToEntity)
+                    .collect(Collectors.toList());
+            @SuppressWarnings("null")
+            List<Player> saved = playerRepository.saveAll(players);
+            return Messenger.builder()
+                    .code(200)
+                    .message("Players saved successfully")
+                    .data(saved.stream().map(PlayerSummary::from).collect(Collectors.toList()))
+                    .build();
+        } catch (Exception e) {
+            return Messenger.builder()
+                    .code(500)
+                    .message("Error saving players: " + e.getMessage())
+                    .build();
+        }
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Messenger findByKeyword(String keyword) {
-        return null;
+        try {
+            List<PlayerSummary> players = playerRepository.findByKeyword(keyword);
+            return Messenger.builder()
+                    .code(200)
+                    .message("Players found by keyword: " + keyword)
+                    .data(SearchHits.rank(SearchType.PLAYER, keyword, players, SearchFields::of, Function.identity(),
+                            searchProperties.topK(), players.size()))
+                    .build();
+        } catch (Exception e) {
+            return Messenger.builder()
+                    .code(500)
+                    .message("Error searching players: " + e.getMessage())
+                    .build();
+        }
+    }
+
+    /**
+     * 검색 인덱스가 고른 관련도 상위 식별자만 조회해 점수 순서대로 반환
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Messenger findByKeyword(String keyword, RankedKeys hits) {
+        List<String> ids = hits.keys();
+        try {
+            List<Long> playerIds = ids.stream().map(Long::valueOf).collect(Collectors.toList());
+            Map<Long, PlayerSummary> found = playerRepository.findSummariesByIds(playerIds).stream()
+                    .collect(Collectors.toMap(PlayerSummary::playerId, Function.identity()));
+            List<PlayerSummary> players = playerIds.stream()
+                    .map(found::get)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList());
+            return Messenger.builder()
+                    .code(200)
+                    .message("Players found by keyword: " + keyword)
+                    .data(SearchHits.rank(SearchType.PLAYER, keyword, players, SearchFields::of, Function.identity(),
+                            ids.size(), hits.totalHits()))
+                    .build();
+        } catch (Exception e) {
+            return Messenger.builder()
+                    .code(500)
+                    .message("Error searching players: " + e.getMessage())
+                    .build();
+        }
+    }
+
+    /**
+     * 조건(포지션, 국적, 팀, 등번호, 키워드) 필터 + 페이징 조회
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Messenger search(PlayerSearchCondition condition, Pageable pageable) {
+        try {
+            PagedModel<PlayerSummary> players = new PagedModel<>(playerRepository.search(condition, pageable));
+            return Messenger.builder()
+                    .code(200)
+                    .message("Players retrieved successfully")
+                    .data(players)
+                    .build();
+        } catch (Exception e) {
+            return Messenger.builder()
+                    .code(500)
+                    .message("Error retrieving players: " + e.getMessage())
+                    .build();
+        }
     }
 
+    /**
+     * 전체 선수를 NDJSON으로 한 행씩 출력
+     * 전체 목록을 메모리에 올리지 않고 DB 커서(fetch size)로 읽으면서 바로 쓴다.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void export(OutputStream out) throws IOException {
+        try (Stream<PlayerSummary> rows = playerRepository.streamAll();
+                NdjsonWriter writer = new NdjsonWriter(objectMapper, out)) {
+            Iterator<PlayerSummary> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                writer.write(iterator.next());
+            }
+        }
+    }
+
+    private Player dtoToEntity(PlayerModel dto) {
+        Player player = new Player();
+        player.setPlayerId(dto.getPlayerId());
+        player.setPlayerName(dto.getPlayerName());
+        player.setEPlayerName(dto.getEPlayerName());
+        player.setNickname(dto.getNickname());
+        player.setJoinYyyy(dto.getJoinYyyy());
+        player.setPosition(dto.getPosition());
+        player.setBackNo(dto.getBackNo());
+        player.setNation(dto.getNation());
+        player.setBirthDate(dto.getBirthDate());
+        player.setSolar(dto.getSolar());
+        player.setHeight(dto.getHeight());
+        player.setWeight(dto.getWeight());
+
+        String teamId = dto.getTeamId();
+        if (teamId != null && !teamId.isEmpty()) {
+            player.setTeam(entityManager.find(Team.class, teamId));
+        }
+
+        return player;
+    }
+
+    private void updateEntityFromDto(Player player, PlayerModel dto) {
+        if (dto.getPlayerName() != null) player.setPlayerName(dto.getPlayerName());
+        if (dto.getEPlayerName() != null) player.setEPlayerName(dto.getEPlayerName());
+        if (dto.getNickname() != null) player.setNickname(dto.getNickname());
+        if (dto.getJoinYyyy() != null) player.setJoinYyyy(dto.getJoinYyyy());
+        if (dto.getPosition() != null) player.setPosition(dto.getPosition());
+        if (dto.getBackNo() != null) player.setBackNo(dto.getBackNo());
+        if (dto.getNation() != null) player.setNation(dto.getNation());
+        if (dto.getBirthDate() != null) player.setBirthDate(dto.getBirthDate());
+        if (dto.getSolar() != null) player.setSolar(dto.getSolar());
+        if (dto.getHeight() != null) player.setHeight(dto.getHeight());
+        if (dto.getWeight() != null) player.setWeight(dto.getWeight());
+
+        String teamId = dto.getTeamId();
+        if (teamId != null && !teamId.isEmpty()) {
+            player.setTeam(entityManager.find(Team.class, teamId));
+        }
+    }
 }
@@ -0,0 +1,30 @@
+package com.brobrown.soccerservice.player;
+
+/**
+ * 선수 조회용 경량 DTO
+ * Player 엔티티와 연관된 Team 그래프를 로딩하지 않고 필요한 컬럼만 조회한다.
+ */
+public record PlayerSummary(
+        Long playerId,
+        String playerName,
+        String ePlayerName,
+        String nickname,
+        String position,
+        String backNo,
+        String nation,
+        String teamId,
+        String teamName) {
+
+    public static PlayerSummary from(Player player) {
+        return new PlayerSummary(
+                player.getPlayerId(),
+                player.getPlayerName(),
+                player.getEPlayerName(),
+                player.getNickname(),
+                player.getPosition(),
+                player.getBackNo(),
+                player.getNation(),
+                player.getTeam() != null ? player.getTeam().getTeamId() : null,
+                player.getTeam() != null ? player.getTeam().getTeamName() : null);
+    }
+}
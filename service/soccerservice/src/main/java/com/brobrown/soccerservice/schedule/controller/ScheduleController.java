@@ -1,19 +1,25 @@
 package com.brobrown.soccerservice.schedule.controller;
 
+import java.io.InputStream;
 import java.util.List;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.brobrown.soccerservice.common.Messenger;
 import com.brobrown.soccerservice.schedule.domain.ScheduleDTO;
+import com.brobrown.soccerservice.schedule.domain.ScheduleSearchCondition;
 import com.brobrown.soccerservice.schedule.service.ScheduleService;
 
 import lombok.RequiredArgsConstructor;
@@ -36,6 +42,14 @@ public class ScheduleController {
         return ResponseEntity.ok(scheduleService.saveAll(scheduleDTOs));
     }
 
+    /**
+     * 대량 적재 (JSON 배열 또는 NDJSON 본문을 스트리밍으로 읽어 배치 insert)
+     */
+    @PostMapping(value = "/bulk", consumes = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE })
+    public ResponseEntity<Messenger> bulkIngest(InputStream body) {
+        return ResponseEntity.ok(scheduleService.bulkIngest(body));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<Messenger> update(@PathVariable String id, @RequestBody ScheduleDTO scheduleDTO) {
         return ResponseEntity.ok(scheduleService.update(scheduleDTO));
@@ -51,9 +65,40 @@ public class ScheduleController {
         return ResponseEntity.ok(scheduleService.findById(id));
     }
 
+    /**
+     * 키셋 페이지 목록 조회
+     * 
+     * 예시: GET /schedule/all?size=50 → 응답의 nextCursor를 다음 요청의 cursor로 전달
+     */
     @GetMapping("/all")
-    public ResponseEntity<Messenger> findAll() {
-        return ResponseEntity.ok(scheduleService.findAll());
+    public ResponseEntity<Messenger> findAll(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
+        return ResponseEntity.ok(scheduleService.findAll(cursor, size));
     }
-}
 
+    /**
+     * 기간/경기장/팀/구분 조건 일정 조회 (날짜는 yyyyMMdd, 양 끝 포함)
+     * 
+     * 예시: GET /schedule/range?from=20120301&to=20120331&stadiumId=C05&teamId=K05&size=50
+     */
+    @GetMapping("/range")
+    public ResponseEntity<Messenger> findByRange(@ModelAttribute ScheduleSearchCondition condition,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
+        return ResponseEntity.ok(scheduleService.findByRange(condition, cursor, size));
+    }
+
+    /**
+     * 전체 일정 NDJSON 스트리밍 내보내기 (분석 배치용)
+     * 
+     * 예시: GET /schedule/export → 한 줄에 일정 하나
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export() {
+        StreamingResponseBody body = scheduleService::export;
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+}
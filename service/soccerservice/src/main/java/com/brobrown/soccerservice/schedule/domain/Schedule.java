@@ -1,29 +1,47 @@
 package com.brobrown.soccerservice.schedule.domain;
 
+import java.time.LocalDate;
+
+import com.brobrown.soccerservice.common.event.DomainChangeListener;
 import com.brobrown.soccerservice.stadium.domain.Stadium;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import jakarta.persistence.Version;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 
 @Entity
+@EntityListeners(DomainChangeListener.class)
 @Table(name = "schedule")
 @Data
 public class Schedule {
 
+    // IDENTITY는 insert마다 id를 받아와야 해서 JDBC 배치가 꺼지므로 pooled 시퀀스를 사용
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "schedule_seq")
+    @SequenceGenerator(name = "schedule_seq", sequenceName = "schedule_seq", allocationSize = 50)
     private Long id;
 
-    private String scheDate;
+    private LocalDate scheDate;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "stadium_id")
+    @JsonIgnoreProperties({ "schedules" })
     private Stadium stadium;
 
     private String gubun;
@@ -36,4 +54,28 @@ public class Schedule {
 
     private Integer awayScore;
 
+    /**
+     * 낙관적 잠금 버전
+     * 같은 일정을 동시에 수정하면 나중 커밋이 실패하므로, 커밋된 변경의 loadedResult는 항상 직전 커밋의 결과다
+     * (순위표가 같은 이전 결과를 두 번 빼지 않는다).
+     */
+    @Version
+    @JsonIgnore
+    private Long version;
+
+    /**
+     * DB에서 읽었을 때의 경기 결과 (새로 만든 엔티티면 null)
+     * 커밋 후 DomainChangeBatch에는 최종 상태만 담기므로 순위표가 이전 기여분을 빼는 데 사용한다.
+     */
+    @Transient
+    @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private ScheduleResult loadedResult;
+
+    @PostLoad
+    void snapshotLoadedResult() {
+        loadedResult = ScheduleResult.of(this);
+    }
+
 }
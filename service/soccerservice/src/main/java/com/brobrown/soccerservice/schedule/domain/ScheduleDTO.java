@@ -1,5 +1,9 @@
 package com.brobrown.soccerservice.schedule.domain;
 
+import java.time.LocalDate;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -12,7 +16,8 @@ import lombok.NoArgsConstructor;
 public class ScheduleDTO {
     private Long id;
     private String stadiumUk;
-    private String scheDate;
+    @JsonFormat(pattern = ScheduleDates.PATTERN)
+    private LocalDate scheDate;
     private String gubun;
     private String hometeamId;
     private String awayteamId;
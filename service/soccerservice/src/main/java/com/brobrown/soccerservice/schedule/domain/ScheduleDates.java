@@ -0,0 +1,25 @@
+package com.brobrown.soccerservice.schedule.domain;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 일정 날짜의 외부 표현 (API/검색어는 기존과 같은 yyyyMMdd, 저장은 DATE)
+ */
+public final class ScheduleDates {
+
+    /** JSON/요청 파라미터 형식 */
+    public static final String PATTERN = "yyyyMMdd";
+
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern(PATTERN);
+
+    private ScheduleDates() {
+    }
+
+    /**
+     * 키워드 검색 대상 문자열 (날짜가 없으면 null)
+     */
+    public static String format(LocalDate date) {
+        return date == null ? null : date.format(FORMATTER);
+    }
+}
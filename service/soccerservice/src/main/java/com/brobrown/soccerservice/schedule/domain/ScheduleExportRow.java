@@ -0,0 +1,20 @@
+package com.brobrown.soccerservice.schedule.domain;
+
+import java.time.LocalDate;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+/**
+ * 일정 내보내기(export) 한 행
+ * 엔티티가 아닌 스칼라 프로젝션이라 스트리밍 중 영속성 컨텍스트에 쌓이지 않는다.
+ */
+public record ScheduleExportRow(
+        Long id,
+        @JsonFormat(pattern = ScheduleDates.PATTERN) LocalDate scheDate,
+        String stadiumId,
+        String gubun,
+        String hometeamId,
+        String awayteamId,
+        Integer homeScore,
+        Integer awayScore) {
+}
@@ -0,0 +1,32 @@
+package com.brobrown.soccerservice.schedule.domain;
+
+import java.time.LocalDate;
+
+/**
+ * 순위표 집계에 필요한 일정 한 건의 결과 (스칼라 프로젝션 또는 엔티티 스냅샷)
+ */
+public record ScheduleResult(
+        Long id,
+        LocalDate scheDate,
+        String hometeamId,
+        String awayteamId,
+        Integer homeScore,
+        Integer awayScore) {
+
+    public static ScheduleResult of(Schedule schedule) {
+        return new ScheduleResult(schedule.getId(), schedule.getScheDate(), schedule.getHometeamId(),
+                schedule.getAwayteamId(), schedule.getHomeScore(), schedule.getAwayScore());
+    }
+
+    /**
+     * 날짜, 양 팀, 양 팀 점수가 모두 있는 치러진 경기인지 여부
+     */
+    public boolean played() {
+        return scheDate != null && hometeamId != null && awayteamId != null
+                && homeScore != null && awayScore != null;
+    }
+
+    public int season() {
+        return scheDate.getYear();
+    }
+}
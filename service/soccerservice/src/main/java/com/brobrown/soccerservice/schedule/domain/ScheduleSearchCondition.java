@@ -0,0 +1,28 @@
+package com.brobrown.soccerservice.schedule.domain;
+
+import java.time.LocalDate;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일정 기간 조회 조건 (null인 조건은 무시, 날짜는 yyyyMMdd 양 끝 포함)
+ */
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ScheduleSearchCondition {
+    @DateTimeFormat(pattern = ScheduleDates.PATTERN)
+    private LocalDate from;
+    @DateTimeFormat(pattern = ScheduleDates.PATTERN)
+    private LocalDate to;
+    private String stadiumId;
+    /** 홈 또는 원정 팀 */
+    private String teamId;
+    private String gubun;
+}
@@ -0,0 +1,37 @@
+package com.brobrown.soccerservice.schedule.domain;
+
+import java.time.LocalDate;
+
+import com.brobrown.soccerservice.stadium.domain.Stadium;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+/**
+ * 일정 조회 응답 모델
+ * 엔티티 대신 응답에 필요한 값만 담아 Hibernate 프록시/양방향 연관관계를 직렬화하지 않는다.
+ */
+public record ScheduleView(
+        Long id,
+        @JsonFormat(pattern = ScheduleDates.PATTERN) LocalDate scheDate,
+        String stadiumId,
+        String stadiumName,
+        String gubun,
+        String hometeamId,
+        String awayteamId,
+        Integer homeScore,
+        Integer awayScore) {
+
+    public static ScheduleView from(Schedule schedule) {
+        Stadium stadium = schedule.getStadium();
+        return new ScheduleView(
+                schedule.getId(),
+                schedule.getScheDate(),
+                stadium != null ? stadium.getStadiumId() : null,
+                stadium != null ? stadium.getStadiumName() : null,
+                schedule.getGubun(),
+                schedule.getHometeamId(),
+                schedule.getAwayteamId(),
+                schedule.getHomeScore(),
+                schedule.getAwayScore());
+    }
+}
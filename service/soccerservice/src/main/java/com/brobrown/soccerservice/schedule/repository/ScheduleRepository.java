@@ -1,17 +1,91 @@
 package com.brobrown.soccerservice.schedule.repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.brobrown.soccerservice.schedule.domain.Schedule;
+import com.brobrown.soccerservice.schedule.domain.ScheduleExportRow;
+import com.brobrown.soccerservice.schedule.domain.ScheduleResult;
+
+import jakarta.persistence.QueryHint;
 
 @Repository
-public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
+public interface ScheduleRepository extends JpaRepository<Schedule, Long>, ScheduleRepositoryCustom {
     
-    @Query("SELECT s FROM Schedule s WHERE s.scheDate LIKE %:keyword% OR s.hometeamId LIKE %:keyword% OR s.awayteamId LIKE %:keyword%")
+    /**
+     * 날짜는 V7 트라이그램 인덱스와 같은 식(soccer_compact_date, SoccerFunctionContributor)으로 비교
+     */
+    @EntityGraph(attributePaths = { "stadium", "stadium.team" })
+    @Query("SELECT s FROM Schedule s WHERE soccer_compact_date(s.scheDate) LIKE %:keyword% OR s.hometeamId LIKE %:keyword% OR s.awayteamId LIKE %:keyword%")
     List<Schedule> findByKeyword(@Param("keyword") String keyword);
+
+    /**
+     * 키셋 페이지 조회 (id 오름차순, id 초과)
+     */
+    @EntityGraph(attributePaths = { "stadium", "stadium.team" })
+    List<Schedule> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    @EntityGraph(attributePaths = { "stadium", "stadium.team" })
+    List<Schedule> findAllByOrderByIdAsc(Limit limit);
+
+    /**
+     * 검색 인덱스 결과 조회 (경기장, 홈 팀 함께 조회)
+     */
+    @EntityGraph(attributePaths = { "stadium", "stadium.team" })
+    List<Schedule> findByIdIn(Collection<Long> ids);
+
+    @Override
+    @EntityGraph(attributePaths = { "stadium", "stadium.team" })
+    Optional<Schedule> findById(Long id);
+
+    /**
+     * 전체 일정을 id 순서로 스트리밍 (트랜잭션 안에서 사용, 사용 후 close 필요)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.brobrown.soccerservice.schedule.domain.ScheduleExportRow("
+            + "s.id, s.scheDate, s.stadium.stadiumId, s.gubun, s.hometeamId, s.awayteamId, s.homeScore, s.awayScore) "
+            + "FROM Schedule s ORDER BY s.id")
+    Stream<ScheduleExportRow> streamExportRows();
+
+    /**
+     * 치러진(점수가 있는) 전체 경기 결과 스트리밍 (순위표 초기 집계용, 트랜잭션 안에서 사용)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.brobrown.soccerservice.schedule.domain.ScheduleResult("
+            + "s.id, s.scheDate, s.hometeamId, s.awayteamId, s.homeScore, s.awayScore) "
+            + "FROM Schedule s WHERE s.scheDate IS NOT NULL AND s.hometeamId IS NOT NULL AND s.awayteamId IS NOT NULL "
+            + "AND s.homeScore IS NOT NULL AND s.awayScore IS NOT NULL")
+    Stream<ScheduleResult> streamPlayedResults();
+
+    /**
+     * 기간 내 치러진 경기 결과 (한 시즌만 다시 집계할 때 사용)
+     */
+    @Query("SELECT new com.brobrown.soccerservice.schedule.domain.ScheduleResult("
+            + "s.id, s.scheDate, s.hometeamId, s.awayteamId, s.homeScore, s.awayScore) "
+            + "FROM Schedule s WHERE s.scheDate BETWEEN :from AND :to AND s.hometeamId IS NOT NULL "
+            + "AND s.awayteamId IS NOT NULL AND s.homeScore IS NOT NULL AND s.awayScore IS NOT NULL")
+    List<ScheduleResult> findPlayedResults(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * 팀의 기간 내 최근 경기 결과 (날짜, id 내림차순)
+     */
+    @Query("SELECT new com.brobrown.soccerservice.schedule.domain.ScheduleResult("
+            + "s.id, s.scheDate, s.hometeamId, s.awayteamId, s.homeScore, s.awayScore) "
+            + "FROM Schedule s WHERE (s.hometeamId = :teamId OR s.awayteamId = :teamId) "
+            + "AND s.scheDate BETWEEN :from AND :to AND s.homeScore IS NOT NULL AND s.awayScore IS NOT NULL "
+            + "ORDER BY s.scheDate DESC, s.id DESC")
+    List<ScheduleResult> findRecentResults(@Param("teamId") String teamId, @Param("from") LocalDate from,
+            @Param("to") LocalDate to, Limit limit);
 }
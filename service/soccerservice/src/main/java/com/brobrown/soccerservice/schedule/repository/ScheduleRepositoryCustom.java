@@ -0,0 +1,15 @@
+package com.brobrown.soccerservice.schedule.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.brobrown.soccerservice.schedule.domain.Schedule;
+import com.brobrown.soccerservice.schedule.domain.ScheduleSearchCondition;
+
+public interface ScheduleRepositoryCustom {
+
+    /**
+     * 조건에 맞는 일정을 (scheDate, id) 오름차순으로 (afterDate, afterId) 다음부터 limit건 조회
+     */
+    List<Schedule> findByCondition(ScheduleSearchCondition condition, LocalDate afterDate, Long afterId, int limit);
+}
@@ -0,0 +1,75 @@
+package com.brobrown.soccerservice.schedule.repository;
+
+import static com.brobrown.soccerservice.schedule.domain.QSchedule.schedule;
+import static com.brobrown.soccerservice.stadium.domain.QStadium.stadium;
+import static com.brobrown.soccerservice.team.domain.QTeam.team;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.brobrown.soccerservice.schedule.domain.Schedule;
+import com.brobrown.soccerservice.schedule.domain.ScheduleSearchCondition;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.StringPath;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * QueryDSL 기반 일정 기간 조회
+ * 날짜/경기장/팀/구분 조건을 모두 SQL WHERE로 내려 (stadium_id, sche_date), (hometeam_id, sche_date),
+ * (awayteam_id, sche_date), (sche_date) 인덱스 범위 조회가 되도록 한다.
+ */
+@RequiredArgsConstructor
+public class ScheduleRepositoryImpl implements ScheduleRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public List<Schedule> findByCondition(ScheduleSearchCondition condition, LocalDate afterDate, Long afterId,
+            int limit) {
+        return queryFactory
+                .selectFrom(schedule)
+                .leftJoin(schedule.stadium, stadium).fetchJoin()
+                .leftJoin(stadium.team, team).fetchJoin()
+                .where(schedule.scheDate.isNotNull(),
+                        dateFrom(condition.getFrom()),
+                        dateTo(condition.getTo()),
+                        eq(schedule.stadium.stadiumId, condition.getStadiumId()),
+                        teamEq(condition.getTeamId()),
+                        eq(schedule.gubun, condition.getGubun()),
+                        after(afterDate, afterId))
+                .orderBy(schedule.scheDate.asc(), schedule.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    private static BooleanExpression dateFrom(LocalDate from) {
+        return from == null ? null : schedule.scheDate.goe(from);
+    }
+
+    private static BooleanExpression dateTo(LocalDate to) {
+        return to == null ? null : schedule.scheDate.loe(to);
+    }
+
+    private static BooleanExpression teamEq(String teamId) {
+        return teamId == null || teamId.isEmpty() ? null
+                : schedule.hometeamId.eq(teamId).or(schedule.awayteamId.eq(teamId));
+    }
+
+    /**
+     * 키셋 조건 (scheDate, id) > (afterDate, afterId)
+     */
+    private static BooleanExpression after(LocalDate afterDate, Long afterId) {
+        if (afterDate == null || afterId == null) {
+            return null;
+        }
+        return schedule.scheDate.gt(afterDate)
+                .or(schedule.scheDate.eq(afterDate).and(schedule.id.gt(afterId)));
+    }
+
+    private static BooleanExpression eq(StringPath path, String value) {
+        return value == null || value.isEmpty() ? null : path.eq(value);
+    }
+}
@@ -1,9 +1,14 @@
 package com.brobrown.soccerservice.schedule.service;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.List;
 
 import com.brobrown.soccerservice.common.Messenger;
 import com.brobrown.soccerservice.schedule.domain.ScheduleDTO;
+import com.brobrown.soccerservice.schedule.domain.ScheduleSearchCondition;
+import com.brobrown.soccerservice.search.RankedKeys;
 
 public interface ScheduleService {
     Messenger save(ScheduleDTO scheduleDTO);
@@ -14,12 +19,20 @@ public interface ScheduleService {
 
     Messenger findById(String id);
 
-    Messenger findAll();
+    Messenger findAll(String cursor, Integer size);
+
+    Messenger findByRange(ScheduleSearchCondition condition, String cursor, Integer size);
 
     Messenger saveAll(List<ScheduleDTO> scheduleDTOs);
 
     Messenger findByKeyword(String keyword);
 
+    Messenger findByKeyword(String keyword, RankedKeys hits);
+
+    void export(OutputStream out) throws IOException;
+
+    Messenger bulkIngest(InputStream in);
+
 }
 
 
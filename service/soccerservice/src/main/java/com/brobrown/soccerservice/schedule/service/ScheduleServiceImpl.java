@@ -1,38 +1,80 @@
 package com.brobrown.soccerservice.schedule.service;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 
+import com.brobrown.soccerservice.common.BulkIngestResult;
+import com.brobrown.soccerservice.common.CursorPage;
+import com.brobrown.soccerservice.common.CursorPage.InvalidCursorException;
+import com.brobrown.soccerservice.common.JsonChunks;
 import com.brobrown.soccerservice.common.Messenger;
+import com.brobrown.soccerservice.common.NdjsonWriter;
+import com.brobrown.soccerservice.config.PaginationProperties;
+import com.brobrown.soccerservice.config.SearchProperties;
 import com.brobrown.soccerservice.schedule.domain.Schedule;
 import com.brobrown.soccerservice.schedule.domain.ScheduleDTO;
+import com.brobrown.soccerservice.schedule.domain.ScheduleExportRow;
+import com.brobrown.soccerservice.schedule.domain.ScheduleSearchCondition;
+import com.brobrown.soccerservice.schedule.domain.ScheduleView;
 import com.brobrown.soccerservice.schedule.repository.ScheduleRepository;
+import com.brobrown.soccerservice.search.RankedKeys;
+import com.brobrown.soccerservice.search.SearchFields;
+import com.brobrown.soccerservice.search.SearchHits;
+import com.brobrown.soccerservice.search.SearchType;
 import com.brobrown.soccerservice.stadium.domain.Stadium;
 import com.brobrown.soccerservice.stadium.repository.StadiumRepository;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.annotation.Timed;
+
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
+@Timed(value = "soccer.service", histogram = true)
 public class ScheduleServiceImpl implements ScheduleService {
 
+    /** 대량 적재 시 한 번에 flush/clear 하는 행 수 (hibernate.jdbc.batch_size와 맞춤) */
+    private static final int BULK_CHUNK_SIZE = 500;
+
     private final ScheduleRepository scheduleRepository;
     private final StadiumRepository stadiumRepository;
+    private final PaginationProperties paginationProperties;
+    private final SearchProperties searchProperties;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
 
     @Override
     public Messenger save(ScheduleDTO scheduleDTO) {
         try {
-            Schedule schedule = dtoToEntity(scheduleDTO);
+            Schedule schedule = upsertAll(List.of(scheduleDTO), this::findStadium).get(0);
             @SuppressWarnings("null")
             Schedule saved = scheduleRepository.save(schedule);
             return Messenger.builder()
                     .code(200)
                     .message("Schedule saved successfully")
-                    .data(saved)
+                    .data(ScheduleView.from(saved))
                     .build();
         } catch (Exception e) {
             return Messenger.builder()
@@ -57,7 +99,7 @@ public class ScheduleServiceImpl implements ScheduleService {
             return Messenger.builder()
                     .code(200)
                     .message("Schedule updated successfully")
-                    .data(updated)
+                    .data(ScheduleView.from(updated))
                     .build();
         } catch (Exception e) {
             return Messenger.builder()
@@ -94,7 +136,7 @@ public class ScheduleServiceImpl implements ScheduleService {
             return Messenger.builder()
                     .code(200)
                     .message("Schedule found")
-                    .data(schedule)
+                    .data(ScheduleView.from(schedule))
                     .build();
         } catch (Exception e) {
             return Messenger.builder()
@@ -106,13 +148,70 @@ public class ScheduleServiceImpl implements ScheduleService {
 
     @Override
     @Transactional(readOnly = true)
-    public Messenger findAll() {
+    public Messenger findAll(String cursor, Integer size) {
+        try {
+            int limit = paginationProperties.resolve(size);
+            Long after = CursorPage.decodeLong(cursor);
+            List<Schedule> schedules = after == null
+                    ? scheduleRepository.findAllByOrderByIdAsc(Limit.of(limit + 1))
+                    : scheduleRepository.findByIdGreaterThanOrderByIdAsc(after, Limit.of(limit + 1));
+            return Messenger.builder()
+                    .code(200)
+                    .message("Schedules retrieved successfully")
+                    .data(CursorPage.of(schedules, limit, Schedule::getId).map(ScheduleView::from))
+                    .build();
+        } catch (InvalidCursorException e) {
+            return Messenger.builder()
+                    .code(400)
+                    .message(e.getMessage())
+                    .build();
+        } catch (Exception e) {
+            return Messenger.builder()
+                    .code(500)
+                    .message("Error retrieving schedules: " + e.getMessage())
+                    .build();
+        }
+    }
+
+    /**
+     * 기간/경기장/팀/구분 조건 일정 조회 (날짜, id 순 키셋 페이지)
+     * 커서는 마지막 행의 "yyyy-MM-dd:id" 이다.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Messenger findByRange(ScheduleSearchCondition condition, String cursor, Integer size) {
         try {
-            List<Schedule> schedules = scheduleRepository.findAll();
+            if (condition.getFrom() != null && condition.getTo() != null
+                    && condition.getFrom().isAfter(condition.getTo())) {
+                throw new RuntimeException("from must not be after to");
+            }
+            int limit = paginationProperties.resolve(size);
+            String after = CursorPage.decode(cursor);
+            LocalDate afterDate = null;
+            Long afterId = null;
+            if (after != null) {
+                int separator = after.lastIndexOf(':');
+                if (separator < 0) {
+                    throw new InvalidCursorException();
+                }
+                try {
+                    afterDate = LocalDate.parse(after.substring(0, separator));
+                    afterId = Long.valueOf(after.substring(separator + 1));
+                } catch (DateTimeParseException | NumberFormatException e) {
+                    throw new InvalidCursorException();
+                }
+            }
+            List<Schedule> schedules = scheduleRepository.findByCondition(condition, afterDate, afterId, limit + 1);
             return Messenger.builder()
                     .code(200)
                     .message("Schedules retrieved successfully")
-                    .data(schedules)
+                    .data(CursorPage.of(schedules, limit, schedule -> schedule.getScheDate() + ":" + schedule.getId())
+                            .map(ScheduleView::from))
+                    .build();
+        } catch (InvalidCursorException e) {
+            return Messenger.builder()
+                    .code(400)
+                    .message(e.getMessage())
                     .build();
         } catch (Exception e) {
             return Messenger.builder()
@@ -125,15 +224,13 @@ public class ScheduleServiceImpl implements ScheduleService {
     @Override
     public Messenger saveAll(List<ScheduleDTO> scheduleDTOs) {
         try {
-            List<Schedule> schedules = scheduleDTOs.stream()
-                    .map(this::dtoToEntity)
-                    .collect(Collectors.toList());
+            List<Schedule> schedules = upsertAll(scheduleDTOs, this::findStadium);
             @SuppressWarnings("null")
             List<Schedule> saved = scheduleRepository.saveAll(schedules);
             return Messenger.builder()
                     .code(200)
                     .message("Schedules saved successfully")
-                    .data(saved)
+                    .data(saved.stream().map(ScheduleView::from).collect(Collectors.toList()))
                     .build();
         } catch (Exception e) {
             return Messenger.builder()
@@ -151,7 +248,36 @@ public class ScheduleServiceImpl implements ScheduleService {
             return Messenger.builder()
                     .code(200)
                     .message("Schedules found by keyword: " + keyword)
-                    .data(schedules)
+                    .data(SearchHits.rank(SearchType.SCHEDULE, keyword, schedules, SearchFields::of, ScheduleView::from,
+                            searchProperties.topK(), schedules.size()))
+                    .build();
+        } catch (Exception e) {
+            return Messenger.builder()
+                    .code(500)
+                    .message("Error searching schedules: " + e.getMessage())
+                    .build();
+        }
+    }
+
+    /**
+     * 검색 인덱스가 고른 관련도 상위 식별자만 조회해 점수 순서대로 반환
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Messenger findByKeyword(String keyword, RankedKeys hits) {
+        List<String> ids = hits.keys();
+        try {
+            Map<String, Schedule> found = scheduleRepository.findByIdIn(ids.stream().map(Long::valueOf).collect(Collectors.toList())).stream()
+                    .collect(Collectors.toMap(schedule -> String.valueOf(schedule.getId()), Function.identity()));
+            List<Schedule> schedules = ids.stream()
+                    .map(found::get)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList());
+            return Messenger.builder()
+                    .code(200)
+                    .message("Schedules found by keyword: " + keyword)
+                    .data(SearchHits.rank(SearchType.SCHEDULE, keyword, schedules, SearchFields::of, ScheduleView::from,
+                            ids.size(), hits.totalHits()))
                     .build();
         } catch (Exception e) {
             return Messenger.builder()
@@ -161,11 +287,111 @@ public class ScheduleServiceImpl implements ScheduleService {
         }
     }
 
-    private Schedule dtoToEntity(ScheduleDTO dto) {
+    /**
+     * 전체 일정을 NDJSON으로 한 행씩 출력
+     * 전체 목록을 메모리에 올리지 않고 DB 커서(fetch size)로 읽으면서 바로 쓴다.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void export(OutputStream out) throws IOException {
+        try (Stream<ScheduleExportRow> rows = scheduleRepository.streamExportRows();
+                NdjsonWriter writer = new NdjsonWriter(objectMapper, out)) {
+            Iterator<ScheduleExportRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                writer.write(iterator.next());
+            }
+        }
+    }
+
+    /**
+     * 대량 적재 (JSON 배열 또는 NDJSON)
+     * 요청 본문을 BULK_CHUNK_SIZE 단위로 읽으면서 경기장 FK는 시작 시 한 번 조회한 ID 집합으로 확인하고
+     * getReference로 연결해 행마다 SELECT 하지 않는다. 청크마다 flush/clear 하여 JDBC 배치 insert로 기록한다.
+     * 전체가 하나의 트랜잭션이며 중간에 실패하면 모두 롤백된다.
+     */
+    @Override
+    public Messenger bulkIngest(InputStream in) {
+        try {
+            Set<String> stadiumIds = new HashSet<>(stadiumRepository.findAllIds());
+            Function<String, Stadium> stadiumLookup = stadiumId -> stadiumIds.contains(stadiumId)
+                    ? entityManager.getReference(Stadium.class, stadiumId)
+                    : null;
+            long[] counts = new long[2];
+            long received = JsonChunks.forEachChunk(objectMapper, in, ScheduleDTO.class, BULK_CHUNK_SIZE, chunk -> {
+                for (Schedule schedule : upsertAll(chunk, stadiumLookup)) {
+                    if (schedule.getId() != null) {
+                        counts[1]++; // 영속 상태이므로 flush 시 UPDATE
+                    } else {
+                        entityManager.persist(schedule);
+                        counts[0]++;
+                    }
+                }
+                entityManager.flush();
+                entityManager.clear();
+            });
+            return Messenger.builder()
+                    .code(200)
+                    .message("Schedules ingested successfully")
+                    .data(new BulkIngestResult(received, counts[0], counts[1]))
+                    .build();
+        } catch (Exception e) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            return Messenger.builder()
+                    .code(500)
+                    .message("Error ingesting schedules: " + e.getMessage())
+                    .build();
+        }
+    }
+
+    /**
+     * 경기장은 EntityManager.find로 찾아 2차 캐시(stadium 리전)에 있으면 SELECT 없이 연결한다.
+     */
+    private Stadium findStadium(String stadiumId) {
+        return entityManager.find(Stadium.class, stadiumId);
+    }
+
+    /**
+     * id가 있고 이미 존재하는 일정은 한 번에 읽어 온 영속 엔티티에 덮어쓰고, 나머지는 새 엔티티로 만든다 (id는 시퀀스로 발급).
+     * 분리된 엔티티를 merge하면 @Version이 비어 있어 새 행으로 취급되므로, 읽어 온 버전으로 갱신해 동시 수정을 감지한다.
+     */
+    private List<Schedule> upsertAll(List<ScheduleDTO> dtos, Function<String, Stadium> stadiumLookup) {
+        List<Long> ids = dtos.stream()
+                .map(ScheduleDTO::getId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        Map<Long, Schedule> existing = ids.isEmpty() ? Map.of()
+                : scheduleRepository.findAllById(ids).stream()
+                        .collect(Collectors.toMap(Schedule::getId, Function.identity()));
+        List<Schedule> schedules = new ArrayList<>(dtos.size());
+        for (ScheduleDTO dto : dtos) {
+            Schedule schedule = dto.getId() == null ? null : existing.get(dto.getId());
+            if (schedule != null) {
+                copyFields(schedule, dto, stadiumLookup);
+            } else {
+                schedule = dtoToEntity(dto, stadiumLookup);
+                schedule.setId(null);
+            }
+            schedules.add(schedule);
+        }
+        return schedules;
+    }
+
+    /**
+     * 매핑 로직 (soccerbenchmark 모듈에서 같은 패키지로 직접 측정하므로 package-private)
+     */
+    Schedule dtoToEntity(ScheduleDTO dto, Function<String, Stadium> stadiumLookup) {
         Schedule schedule = new Schedule();
         if (dto.getId() != null) {
             schedule.setId(dto.getId());
         }
+        copyFields(schedule, dto, stadiumLookup);
+        return schedule;
+    }
+
+    /**
+     * id를 제외한 모든 값을 DTO 값으로 덮어씀 (null 포함)
+     */
+    private void copyFields(Schedule schedule, ScheduleDTO dto, Function<String, Stadium> stadiumLookup) {
         schedule.setScheDate(dto.getScheDate());
         schedule.setGubun(dto.getGubun());
         schedule.setHometeamId(dto.getHometeamId());
@@ -174,16 +400,10 @@ public class ScheduleServiceImpl implements ScheduleService {
         schedule.setAwayScore(dto.getAwayScore());
 
         String stadiumUk = dto.getStadiumUk();
-        if (stadiumUk != null && !stadiumUk.isEmpty()) {
-            Stadium stadium = stadiumRepository.findById(stadiumUk)
-                    .orElse(null);
-            schedule.setStadium(stadium);
-        }
-
-        return schedule;
+        schedule.setStadium(stadiumUk != null && !stadiumUk.isEmpty() ? stadiumLookup.apply(stadiumUk) : null);
     }
 
-    private void updateEntityFromDto(Schedule schedule, ScheduleDTO dto) {
+    void updateEntityFromDto(Schedule schedule, ScheduleDTO dto) {
         if (dto.getScheDate() != null)
             schedule.setScheDate(dto.getScheDate());
         if (dto.getGubun() != null)
@@ -199,9 +419,7 @@ public class ScheduleServiceImpl implements ScheduleService {
 
         String stadiumUk = dto.getStadiumUk();
         if (stadiumUk != null && !stadiumUk.isEmpty()) {
-            Stadium stadium = stadiumRepository.findById(stadiumUk)
-                    .orElse(null);
-            schedule.setStadium(stadium);
+            schedule.setStadium(entityManager.find(Stadium.class, stadiumUk));
         }
     }
 }
@@ -0,0 +1,115 @@
+package com.brobrown.soccerservice.search;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * PostgreSQL tsvector 전문 검색 (soccer.search.mode: fulltext)
+ * V3__fulltext_search.sql 의 search_tsv(2글자 조각) GIN 인덱스로 후보를 찾고, 기존 LIKE 조건으로 다시 걸러
+ * LIKE 검색과 같은 결과 집합을 ts_rank 상위 limit개만 DB에서 잘라 식별자로 돌려준다.
+ * 테이블/컬럼이 없는 DB(H2 등)이거나 검색어에서 조각을 만들 수 없으면 null을 반환해 LIKE 검색으로 대체한다.
+ */
+@Slf4j
+@Component
+public class FullTextSearch {
+
+    private static final Map<SearchType, String> QUERIES = new EnumMap<>(SearchType.class);
+
+    static {
+        QUERIES.put(SearchType.PLAYER, query("player", "player_id", "player_name", "e_player_name", "nickname"));
+        QUERIES.put(SearchType.TEAM, query("team", "team_id", "team_name", "e_team_name", "region_name"));
+        QUERIES.put(SearchType.STADIUM, query("stadium", "stadium_id", "stadium_name", "address"));
+        QUERIES.put(SearchType.SCHEDULE, query("schedule", "id", "soccer_compact_date(sche_date)", "hometeam_id", "awayteam_id"));
+    }
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * ts_rank 상위 limit개의 식별자와 전체 일치 건수 (대체가 필요하면 null)
+     * 실패해도 호출자 트랜잭션이 rollback-only가 되지 않도록 트랜잭션 없이 실행하되,
+     * 커넥션을 쓰므로 @Transactional(NOT_SUPPORTED)로 표시해 JdbcConcurrencyLimiter의 허가를 받고 실행한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public RankedKeys search(SearchType type, String keyword, int limit) {
+        String tsQuery = toTsQuery(keyword);
+        if (tsQuery == null) {
+            return null;
+        }
+        try {
+            @SuppressWarnings("unchecked")
+            List<Object[]> rows = entityManager.createNativeQuery(QUERIES.get(type))
+                    .setParameter("query", tsQuery)
+                    .setParameter("pattern", "%" + keyword + "%")
+                    .setParameter("limit", limit)
+                    .getResultList();
+            List<String> keys = new ArrayList<>(rows.size());
+            for (Object[] row : rows) {
+                keys.add((String) row[0]);
+            }
+            int totalHits = rows.isEmpty() ? 0 : ((Number) rows.get(0)[1]).intValue();
+            return new RankedKeys(keys, totalHits);
+        } catch (RuntimeException e) {
+            log.warn("search.fulltext.failed type={} fallback=like reason={}", type, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 검색어를 색인과 같은 방식으로 조각내 AND로 묶은 tsquery (글자/숫자만 사용하므로 연산자 주입 없음)
+     * 한 글자 덩어리는 그 글자로 시작하는 조각을 찾는 접두 검색으로 바꾼다.
+     */
+    static String toTsQuery(String keyword) {
+        if (keyword == null) {
+            return null;
+        }
+        StringJoiner terms = new StringJoiner(" & ");
+        String normalized = keyword.toLowerCase(Locale.ROOT);
+        int i = 0;
+        while (i < normalized.length()) {
+            if (!Character.isLetterOrDigit(normalized.charAt(i))) {
+                i++;
+                continue;
+            }
+            int end = i;
+            while (end < normalized.length() && Character.isLetterOrDigit(normalized.charAt(end))) {
+                end++;
+            }
+            if (end - i == 1) {
+                terms.add(normalized.charAt(i) + ":*");
+            } else {
+                for (int j = i; j + 2 <= end; j++) {
+                    terms.add(normalized.substring(j, j + 2));
+                }
+            }
+            i = end;
+        }
+        return terms.length() == 0 ? null : terms.toString();
+    }
+
+    /**
+     * likeColumns 는 LIKE 로 다시 거를 컬럼 또는 식 (DATE 컬럼은 yyyyMMdd 문자열로 변환한 식)
+     */
+    private static String query(String table, String idColumn, String... likeColumns) {
+        StringJoiner like = new StringJoiner(" OR ", "(", ")");
+        for (String column : likeColumns) {
+            like.add(column + " LIKE :pattern");
+        }
+        return "SELECT CAST(" + idColumn + " AS varchar), count(*) OVER () FROM " + table
+                + " WHERE search_tsv @@ to_tsquery('simple', :query) AND " + like
+                + " ORDER BY ts_rank(search_tsv, to_tsquery('simple', :query)) DESC, " + idColumn
+                + " LIMIT :limit";
+    }
+}
@@ -0,0 +1,19 @@
+package com.brobrown.soccerservice.search;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 여러 타입 동시 검색(type=all) 결과
+ *
+ * @param hits      모든 타입의 결과를 관련도 점수 순으로 합친 상위 K개
+ * @param totalHits 타입명 -> 전체 일치 건수 (응답한 타입만 포함)
+ * @param timedOut  제한 시간 안에 응답하지 못한 타입
+ * @param failed    오류로 결과를 얻지 못한 타입
+ */
+public record GlobalSearchResult(
+        List<SearchHit<?>> hits,
+        Map<String, Integer> totalHits,
+        List<String> timedOut,
+        List<String> failed) {
+}
@@ -0,0 +1,60 @@
+package com.brobrown.soccerservice.search;
+
+/**
+ * 한글 자모 분해
+ * 완성형 음절을 호환 자모(ㄱ, ㅏ ...)로 풀고 겹모음/겹받침도 기본 자모로 나눈다.
+ * 입력 중인 음절("소" -> "손", "고" -> "과")도 완성된 이름의 앞부분과 일치하도록 자동완성 키로 사용한다.
+ */
+public final class HangulJamo {
+
+    private static final char SYLLABLE_BASE = '가';
+    private static final char SYLLABLE_LAST = '힣';
+    private static final int JUNGSEONG_COUNT = 21;
+    private static final int JONGSEONG_COUNT = 28;
+
+    private static final String CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String JUNGSEONG = "ㅏㅐㅑㅒㅓㅔㅕㅖㅗㅘㅙㅚㅛㅜㅝㅞㅟㅠㅡㅢㅣ";
+    private static final String JONGSEONG = "\0ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ";
+
+    /** 겹자모 -> 입력 순서대로의 기본 자모 */
+    private static final String COMPOUNDS = "ㅘㅙㅚㅝㅞㅟㅢㄳㄵㄶㄺㄻㄼㄽㄾㄿㅀㅄ";
+    private static final String[] COMPOUND_PARTS = {
+            "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅡㅣ",
+            "ㄱㅅ", "ㄴㅈ", "ㄴㅎ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅂㅅ" };
+
+    private HangulJamo() {
+    }
+
+    /**
+     * 정규화된 문자열을 자모 단위로 분해 (한글이 아닌 문자는 그대로 유지)
+     */
+    public static String decompose(String normalized) {
+        StringBuilder out = new StringBuilder(normalized.length() * 3);
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (c >= SYLLABLE_BASE && c <= SYLLABLE_LAST) {
+                int offset = c - SYLLABLE_BASE;
+                int jong = offset % JONGSEONG_COUNT;
+                int jung = (offset / JONGSEONG_COUNT) % JUNGSEONG_COUNT;
+                int cho = offset / (JONGSEONG_COUNT * JUNGSEONG_COUNT);
+                out.append(CHOSEONG.charAt(cho));
+                appendJamo(out, JUNGSEONG.charAt(jung));
+                if (jong != 0) {
+                    appendJamo(out, JONGSEONG.charAt(jong));
+                }
+            } else {
+                appendJamo(out, c);
+            }
+        }
+        return out.toString();
+    }
+
+    private static void appendJamo(StringBuilder out, char jamo) {
+        int compound = COMPOUNDS.indexOf(jamo);
+        if (compound >= 0) {
+            out.append(COMPOUND_PARTS[compound]);
+        } else {
+            out.append(jamo);
+        }
+    }
+}
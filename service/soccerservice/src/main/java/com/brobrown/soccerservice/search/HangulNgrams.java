@@ -0,0 +1,58 @@
+package com.brobrown.soccerservice.search;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 한글 n-gram 토크나이저
+ * NFC 정규화로 분리된 자모(NFD 입력)를 완성형 음절로 합친 뒤
+ * 음절 단위로 1~3-gram을 생성한다.
+ */
+public final class HangulNgrams {
+
+    /** 인덱싱하는 최대 n-gram 길이 */
+    public static final int MAX_GRAM = 3;
+
+    private HangulNgrams() {
+    }
+
+    /**
+     * 검색/색인 공통 정규화 (NFC + 소문자)
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 색인용 gram 집합 (1-gram ~ 3-gram)
+     * 짧은 키워드(한 음절 등)도 조회되도록 모든 길이의 gram을 만든다.
+     */
+    public static Set<String> indexGrams(String normalized) {
+        Set<String> grams = new LinkedHashSet<>();
+        int length = normalized.length();
+        for (int n = 1; n <= MAX_GRAM; n++) {
+            for (int i = 0; i + n <= length; i++) {
+                grams.add(normalized.substring(i, i + n));
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * 질의용 gram 집합
+     * 키워드 길이까지의 가장 긴 gram만 사용해 후보를 최소화한다.
+     */
+    public static Set<String> queryGrams(String normalized) {
+        Set<String> grams = new LinkedHashSet<>();
+        int n = Math.min(MAX_GRAM, normalized.length());
+        for (int i = 0; i + n <= normalized.length(); i++) {
+            grams.add(normalized.substring(i, i + n));
+        }
+        return grams;
+    }
+}
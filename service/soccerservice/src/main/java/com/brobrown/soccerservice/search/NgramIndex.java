@@ -0,0 +1,232 @@
+package com.brobrown.soccerservice.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * n-gram 역색인
+ * gram -> 문서 번호(int) posting list 구조이며 posting list는 정렬된 int 배열로 보관한다.
+ * 문서 번호는 추가 순서대로 증가하므로 posting list는 항상 정렬 상태를 유지한다.
+ * 수정/삭제는 기존 문서를 삭제 표시(tombstone)하고 새 번호로 추가하는 방식으로 처리하며,
+ * 삭제 표시가 절반을 넘으면 살아있는 문서만으로 posting list를 다시 만든다.
+ */
+public class NgramIndex {
+
+    /** 필드 경계를 넘는 부분 문자열이 매칭되지 않도록 사용하는 구분자 */
+    private static final char FIELD_SEPARATOR = '\u0001';
+
+    /** 이 개수 이하의 삭제 표시는 압축하지 않는다 */
+    private static final int COMPACT_THRESHOLD = 1024;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Map<String, Postings> postings = new HashMap<>();
+    private List<String> keys = new ArrayList<>();
+    private List<String> texts = new ArrayList<>();
+    private Map<String, Integer> docByKey = new HashMap<>();
+    private BitSet deleted = new BitSet();
+    private int deletedCount;
+
+    /**
+     * 문서 추가 (같은 식별자의 문서가 있으면 교체)
+     *
+     * @param key    엔티티 식별자
+     * @param fields 검색 대상 필드 값들
+     */
+    public void add(String key, String... fields) {
+        lock.writeLock().lock();
+        try {
+            upsert(key, fields);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String key) {
+        lock.writeLock().lock();
+        try {
+            delete(key);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 변경 묶음을 한 번의 쓰기 잠금으로 반영
+     *
+     * @param upserts  식별자 -> 검색 대상 필드 값들
+     * @param removals 삭제된 식별자들
+     */
+    public void apply(Map<String, String[]> upserts, Collection<String> removals) {
+        lock.writeLock().lock();
+        try {
+            removals.forEach(this::delete);
+            upserts.forEach(this::upsert);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 키워드를 부분 문자열로 포함하는 문서 중 관련도 상위 limit개의 식별자
+     * gram posting list 교집합으로 후보를 구한 뒤 원문 포함 여부로 검증하고,
+     * 검증된 문서는 SearchRanking 점수로 TopK 힙에 넣어 상위 문서만 남긴다.
+     */
+    public RankedKeys search(String keyword, int limit) {
+        String normalized = HangulNgrams.normalize(keyword);
+        if (normalized.isEmpty()) {
+            return new RankedKeys(List.of(), 0);
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Postings> lists = new ArrayList<>();
+            for (String gram : HangulNgrams.queryGrams(normalized)) {
+                Postings list = postings.get(gram);
+                if (list == null) {
+                    return new RankedKeys(List.of(), 0);
+                }
+                lists.add(list);
+            }
+            lists.sort((a, b) -> Integer.compare(a.size, b.size));
+
+            int[] candidates = Arrays.copyOf(lists.get(0).docs, lists.get(0).size);
+            int count = candidates.length;
+            for (int i = 1; i < lists.size() && count > 0; i++) {
+                count = intersect(candidates, count, lists.get(i));
+            }
+
+            TopK<String> top = new TopK<>(limit);
+            for (int i = 0; i < count; i++) {
+                int docId = candidates[i];
+                String text = texts.get(docId);
+                if (!deleted.get(docId) && text.contains(normalized)) {
+                    String[] fields = text.split(String.valueOf(FIELD_SEPARATOR));
+                    top.offer(keys.get(docId), SearchRanking.scoreNormalized(normalized, fields));
+                }
+            }
+            List<String> result = top.sorted().stream().map(TopK.Entry::item).toList();
+            return new RankedKeys(result, top.offered());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 살아있는 문서 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docByKey.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void upsert(String key, String... fields) {
+        delete(key);
+        StringBuilder joined = new StringBuilder();
+        for (String field : fields) {
+            // 빈 필드도 구분자를 남겨 필드 순서(관련도 가중치)를 유지
+            joined.append(HangulNgrams.normalize(field)).append(FIELD_SEPARATOR);
+        }
+        append(key, joined.toString());
+    }
+
+    private void append(String key, String text) {
+        int docId = keys.size();
+        int start = 0;
+        for (int end = text.indexOf(FIELD_SEPARATOR); end >= 0; end = text.indexOf(FIELD_SEPARATOR, start)) {
+            for (String gram : HangulNgrams.indexGrams(text.substring(start, end))) {
+                postings.computeIfAbsent(gram, g -> new Postings()).add(docId);
+            }
+            start = end + 1;
+        }
+        keys.add(key);
+        texts.add(text);
+        docByKey.put(key, docId);
+    }
+
+    private void delete(String key) {
+        Integer docId = docByKey.remove(key);
+        if (docId != null) {
+            deleted.set(docId);
+            deletedCount++;
+        }
+    }
+
+    /**
+     * 삭제 표시된 문서가 많아지면 살아있는 문서만으로 다시 색인
+     */
+    private void compactIfNeeded() {
+        if (deletedCount <= COMPACT_THRESHOLD || deletedCount * 2 < keys.size()) {
+            return;
+        }
+        List<String> oldKeys = keys;
+        List<String> oldTexts = texts;
+        BitSet oldDeleted = deleted;
+
+        postings = new HashMap<>();
+        keys = new ArrayList<>(oldKeys.size() - deletedCount);
+        texts = new ArrayList<>(oldKeys.size() - deletedCount);
+        docByKey = new HashMap<>();
+        deleted = new BitSet();
+        deletedCount = 0;
+
+        for (int docId = 0; docId < oldKeys.size(); docId++) {
+            if (!oldDeleted.get(docId)) {
+                append(oldKeys.get(docId), oldTexts.get(docId));
+            }
+        }
+    }
+
+    /**
+     * 정렬된 두 posting list의 교집합을 candidates 앞쪽에 기록하고 개수를 반환
+     */
+    private static int intersect(int[] candidates, int count, Postings other) {
+        int[] docs = other.docs;
+        int i = 0;
+        int j = 0;
+        int out = 0;
+        while (i < count && j < other.size) {
+            if (candidates[i] == docs[j]) {
+                candidates[out++] = candidates[i];
+                i++;
+                j++;
+            } else if (candidates[i] < docs[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return out;
+    }
+
+    /**
+     * 원시 int 배열 기반 posting list
+     */
+    private static final class Postings {
+        private int[] docs = new int[4];
+        private int size;
+
+        private void add(int docId) {
+            if (size > 0 && docs[size - 1] == docId) {
+                return;
+            }
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+            }
+            docs[size++] = docId;
+        }
+    }
+}
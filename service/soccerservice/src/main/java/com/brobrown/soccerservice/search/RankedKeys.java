@@ -0,0 +1,12 @@
+package com.brobrown.soccerservice.search;
+
+import java.util.List;
+
+/**
+ * 인덱스 검색 결과
+ *
+ * @param keys      관련도 상위 식별자 (점수 내림차순)
+ * @param totalHits 키워드와 일치한 전체 문서 수
+ */
+public record RankedKeys(List<String> keys, int totalHits) {
+}
@@ -0,0 +1,38 @@
+package com.brobrown.soccerservice.search;
+
+import com.brobrown.soccerservice.player.Player;
+import com.brobrown.soccerservice.player.PlayerSummary;
+import com.brobrown.soccerservice.schedule.domain.Schedule;
+import com.brobrown.soccerservice.schedule.domain.ScheduleDates;
+import com.brobrown.soccerservice.stadium.domain.Stadium;
+import com.brobrown.soccerservice.team.domain.Team;
+
+/**
+ * 엔티티별 키워드 검색 대상 필드 (각 Repository findByKeyword의 LIKE 대상과 동일)
+ * 앞쪽 필드일수록 관련도 점수가 높으므로 이름 필드를 먼저 둔다.
+ */
+public final class SearchFields {
+
+    private SearchFields() {
+    }
+
+    public static String[] of(Player player) {
+        return new String[] { player.getPlayerName(), player.getEPlayerName(), player.getNickname() };
+    }
+
+    public static String[] of(PlayerSummary player) {
+        return new String[] { player.playerName(), player.ePlayerName(), player.nickname() };
+    }
+
+    public static String[] of(Team team) {
+        return new String[] { team.getTeamName(), team.getETeamName(), team.getRegionName() };
+    }
+
+    public static String[] of(Stadium stadium) {
+        return new String[] { stadium.getStadiumName(), stadium.getAddress() };
+    }
+
+    public static String[] of(Schedule schedule) {
+        return new String[] { ScheduleDates.format(schedule.getScheDate()), schedule.getHometeamId(), schedule.getAwayteamId() };
+    }
+}
@@ -0,0 +1,11 @@
+package com.brobrown.soccerservice.search;
+
+/**
+ * 검색 결과 한 건
+ *
+ * @param type  엔티티 타입 (player, team, stadium, schedule)
+ * @param score 관련도 점수 (SearchRanking)
+ * @param item  응답 모델
+ */
+public record SearchHit<T>(String type, int score, T item) {
+}
@@ -0,0 +1,39 @@
+package com.brobrown.soccerservice.search;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * 관련도 상위 K개 검색 결과와 전체 일치 건수
+ *
+ * @param hits      점수 내림차순 결과 (최대 K개)
+ * @param totalHits 키워드와 일치한 전체 건수 (K개로 잘리기 전)
+ */
+public record SearchHits<T>(List<SearchHit<T>> hits, int totalHits) {
+
+    /**
+     * 조회된 행들의 점수를 매겨 상위 limit개만 응답 모델로 변환
+     *
+     * @param type      엔티티 타입
+     * @param keyword   검색어
+     * @param rows      후보 행
+     * @param fields    점수 계산에 쓸 필드 값 (SearchFields)
+     * @param view      응답 모델 변환
+     * @param limit     최대 결과 수
+     * @param totalHits 전체 일치 건수
+     */
+    public static <E, T> SearchHits<T> rank(SearchType type, String keyword, Collection<E> rows,
+            Function<E, String[]> fields, Function<E, T> view, int limit, int totalHits) {
+        TopK<E> top = new TopK<>(limit);
+        for (E row : rows) {
+            top.offer(row, SearchRanking.score(keyword, fields.apply(row)));
+        }
+        String typeName = type.name().toLowerCase(Locale.ROOT);
+        List<SearchHit<T>> hits = top.sorted().stream()
+                .map(entry -> new SearchHit<>(typeName, entry.score(), view.apply(entry.item())))
+                .toList();
+        return new SearchHits<>(hits, totalHits);
+    }
+}
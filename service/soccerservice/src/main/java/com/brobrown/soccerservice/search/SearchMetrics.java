@@ -0,0 +1,84 @@
+package com.brobrown.soccerservice.search;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import com.brobrown.soccerservice.common.SingleFlight;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 검색 타입별 요청 수와 결과 건수 분포
+ * 타입/결과 조합이 고정되어 있으므로 미터를 미리 등록해 두고 요청마다 태그 배열을 만들지 않는다.
+ *
+ * soccer.search.requests{type, outcome}  : outcome = ok, error, timeout (분기 시간 초과 또는 합쳐진 검색의 503 포함)
+ * soccer.search.results{type}            : 키워드와 일치한 전체 건수 (totalHits)
+ * soccer.search.coalesce{role}            : role = leader, follower, timeout, failed
+ *                                           합쳐진 비율 = follower / (leader + follower + timeout + failed)
+ * soccer.search.inflight                  : 실행 중인 서로 다른 (타입, 검색어) 수
+ */
+@Component
+public class SearchMetrics {
+
+    public enum Outcome {
+        OK, ERROR, TIMEOUT
+    }
+
+    private final Map<SearchType, Map<Outcome, Counter>> requests = new EnumMap<>(SearchType.class);
+    private final Map<SearchType, DistributionSummary> results = new EnumMap<>(SearchType.class);
+    private final Map<SingleFlight.Role, Counter> coalesce = new EnumMap<>(SingleFlight.Role.class);
+    private final MeterRegistry registry;
+
+    public SearchMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        for (SearchType type : SearchType.values()) {
+            String typeTag = type.name().toLowerCase(Locale.ROOT);
+            Map<Outcome, Counter> byOutcome = new EnumMap<>(Outcome.class);
+            for (Outcome outcome : Outcome.values()) {
+                byOutcome.put(outcome, Counter.builder("soccer.search.requests")
+                        .description("타입별 키워드 검색 요청 수")
+                        .tag("type", typeTag)
+                        .tag("outcome", outcome.name().toLowerCase(Locale.ROOT))
+                        .register(registry));
+            }
+            requests.put(type, byOutcome);
+            results.put(type, DistributionSummary.builder("soccer.search.results")
+                    .description("타입별 키워드 검색 일치 건수")
+                    .baseUnit("hits")
+                    .tag("type", typeTag)
+                    .publishPercentileHistogram()
+                    .register(registry));
+        }
+        for (SingleFlight.Role role : SingleFlight.Role.values()) {
+            coalesce.put(role, Counter.builder("soccer.search.coalesce")
+                    .description("동시 동일 검색 합치기 역할별 호출 수")
+                    .tag("role", role.name().toLowerCase(Locale.ROOT))
+                    .register(registry));
+        }
+    }
+
+    public void recordHits(SearchType type, int totalHits) {
+        requests.get(type).get(Outcome.OK).increment();
+        results.get(type).record(totalHits);
+    }
+
+    public void record(SearchType type, Outcome outcome) {
+        requests.get(type).get(outcome).increment();
+    }
+
+    public void recordCoalesce(SingleFlight.Role role) {
+        coalesce.get(role).increment();
+    }
+
+    public void registerInFlight(SingleFlight<?, ?> flight) {
+        Gauge.builder("soccer.search.inflight", flight, SingleFlight::inFlight)
+                .description("실행 중인 서로 다른 검색 수")
+                .register(registry);
+    }
+}
@@ -0,0 +1,78 @@
+package com.brobrown.soccerservice.search;
+
+/**
+ * 키워드 검색 관련도 점수
+ * 필드 값이 키워드와 같으면(exact) > 키워드로 시작하면(prefix) > 단어가 키워드로 시작하면 > 포함하면(substring) 순이며,
+ * 앞쪽 필드(이름)일수록, 필드 길이가 키워드에 가까울수록 높은 점수를 준다.
+ * 색인(NgramIndex)과 DB 대체 검색이 같은 점수를 쓰도록 정규화된 값 기준으로 계산한다.
+ */
+public final class SearchRanking {
+
+    private static final int EXACT = 1000;
+    private static final int PREFIX = 600;
+    private static final int WORD_PREFIX = 450;
+    private static final int SUBSTRING = 300;
+
+    /** 필드 순서 한 칸당 감점 */
+    private static final int FIELD_PENALTY = 20;
+
+    /** 필드 길이가 키워드보다 길 때의 최대 감점 */
+    private static final int MAX_LENGTH_PENALTY = 19;
+
+    private SearchRanking() {
+    }
+
+    /**
+     * 원문 키워드/필드 값으로 점수 계산 (일치하는 필드가 없으면 0)
+     */
+    public static int score(String keyword, String... fields) {
+        String normalizedKeyword = HangulNgrams.normalize(keyword);
+        String[] normalizedFields = new String[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            normalizedFields[i] = HangulNgrams.normalize(fields[i]);
+        }
+        return scoreNormalized(normalizedKeyword, normalizedFields);
+    }
+
+    /**
+     * 이미 정규화된 키워드/필드 값으로 점수 계산
+     */
+    public static int scoreNormalized(String keyword, String[] fields) {
+        if (keyword.isEmpty()) {
+            return 0;
+        }
+        int best = 0;
+        for (int i = 0; i < fields.length; i++) {
+            String field = fields[i];
+            int base = base(keyword, field);
+            if (base == 0) {
+                continue;
+            }
+            int lengthPenalty = Math.min(MAX_LENGTH_PENALTY, field.length() - keyword.length());
+            best = Math.max(best, base - FIELD_PENALTY * i - lengthPenalty);
+        }
+        return best;
+    }
+
+    private static int base(String keyword, String field) {
+        if (field == null || field.length() < keyword.length()) {
+            return 0;
+        }
+        if (field.equals(keyword)) {
+            return EXACT;
+        }
+        if (field.startsWith(keyword)) {
+            return PREFIX;
+        }
+        int index = field.indexOf(keyword);
+        if (index < 0) {
+            return 0;
+        }
+        for (; index >= 0; index = field.indexOf(keyword, index + 1)) {
+            if (Character.isWhitespace(field.charAt(index - 1))) {
+                return WORD_PREFIX;
+            }
+        }
+        return SUBSTRING;
+    }
+}
@@ -0,0 +1,11 @@
+package com.brobrown.soccerservice.search;
+
+/**
+ * 통합 검색 대상 엔티티 타입
+ */
+public enum SearchType {
+    PLAYER,
+    TEAM,
+    STADIUM,
+    SCHEDULE
+}
@@ -0,0 +1,245 @@
+package com.brobrown.soccerservice.search;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.brobrown.soccerservice.common.event.DomainChange.ChangeType;
+import com.brobrown.soccerservice.common.event.DomainChangeBatch;
+import com.brobrown.soccerservice.common.limit.JdbcConcurrencyLimiter;
+import com.brobrown.soccerservice.config.SearchProperties;
+import com.brobrown.soccerservice.player.Player;
+import com.brobrown.soccerservice.player.PlayerRepository;
+import com.brobrown.soccerservice.player.PlayerSearchCondition;
+import com.brobrown.soccerservice.player.PlayerSummary;
+import com.brobrown.soccerservice.schedule.domain.Schedule;
+import com.brobrown.soccerservice.schedule.repository.ScheduleRepository;
+import com.brobrown.soccerservice.stadium.domain.Stadium;
+import com.brobrown.soccerservice.stadium.repository.StadiumRepository;
+import com.brobrown.soccerservice.team.domain.Team;
+import com.brobrown.soccerservice.team.repository.TeamRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 선수/팀/경기장/일정 키워드 검색용 인메모리 n-gram 인덱스
+ * 각 Repository의 findByKeyword(LIKE %keyword%)와 같은 필드를 색인해
+ * 검색 시 테이블 전체 스캔 없이 식별자 목록을 찾는다.
+ * 시작 시 한 번 전체를 색인하고, 이후에는 커밋된 DomainChangeBatch로 증분 반영한다.
+ * 색인을 만드는 동안 커밋된 변경은 읽어 둔 스냅샷에 없을 수 있으므로 모아 두었다가 새 인덱스로 교체한 직후 다시 적용한다
+ * (같은 키의 upsert/remove라 스냅샷에 이미 반영된 변경을 다시 적용해도 결과가 같다).
+ * 대량 적재처럼 타입만 기록된(overflowed) 변경이 오면 백그라운드 스레드 하나에서 전체를 다시 색인한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SoccerSearchIndex {
+
+    private final PlayerRepository playerRepository;
+    private final TeamRepository teamRepository;
+    private final StadiumRepository stadiumRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final SearchProperties searchProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectProvider<JdbcConcurrencyLimiter> jdbcLimiter;
+
+    private final ReentrantLock buildLock = new ReentrantLock();
+    private final ReentrantLock swapLock = new ReentrantLock();
+    private final AtomicBoolean rebuildPending = new AtomicBoolean();
+    private final ExecutorService rebuilder = Executors.newSingleThreadExecutor(
+            Thread.ofVirtual().name("search-index-rebuild").factory());
+
+    private volatile Map<SearchType, NgramIndex> indexes;
+
+    /** 색인 생성 중에 도착한 변경 (생성 중이 아니면 null, swapLock으로 보호) */
+    private List<DomainChangeBatch> pendingDuringBuild;
+
+    /**
+     * 애플리케이션 시작 완료 시 전체 데이터를 읽어 인덱스를 생성 (검색 방식이 index일 때만)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        if (searchProperties.mode() != SearchProperties.Mode.INDEX) {
+            log.info("검색 방식이 {}이므로 인메모리 검색 인덱스를 만들지 않음", searchProperties.mode());
+            return;
+        }
+        // 시작 시 생성과 overflowed 변경에 의한 재생성이 겹치지 않게 한 번에 하나만 만든다
+        buildLock.lock();
+        try {
+            long start = System.currentTimeMillis();
+            swapLock.lock();
+            try {
+                pendingDuringBuild = new ArrayList<>();
+            } finally {
+                swapLock.unlock();
+            }
+            Map<SearchType, NgramIndex> built = null;
+            int replayed;
+            try {
+                built = buildAll();
+            } finally {
+                replayed = swap(built);
+            }
+            log.info("검색 인덱스 생성 완료 - player: {}, team: {}, stadium: {}, schedule: {}, 생성 중 변경: {} ({} ms)",
+                    built.get(SearchType.PLAYER).size(), built.get(SearchType.TEAM).size(),
+                    built.get(SearchType.STADIUM).size(), built.get(SearchType.SCHEDULE).size(), replayed,
+                    System.currentTimeMillis() - start);
+        } finally {
+            buildLock.unlock();
+        }
+    }
+
+    private Map<SearchType, NgramIndex> buildAll() {
+        Map<SearchType, NgramIndex> built = new EnumMap<>(SearchType.class);
+
+        NgramIndex players = new NgramIndex();
+        for (PlayerSummary player : playerRepository.search(new PlayerSearchCondition(), Pageable.unpaged())) {
+            players.add(String.valueOf(player.playerId()), SearchFields.of(player));
+        }
+        built.put(SearchType.PLAYER, players);
+
+        NgramIndex teams = new NgramIndex();
+        for (Team team : teamRepository.findAll()) {
+            teams.add(team.getTeamId(), SearchFields.of(team));
+        }
+        built.put(SearchType.TEAM, teams);
+
+        NgramIndex stadiums = new NgramIndex();
+        for (Stadium stadium : stadiumRepository.findAll()) {
+            stadiums.add(stadium.getStadiumId(), SearchFields.of(stadium));
+        }
+        built.put(SearchType.STADIUM, stadiums);
+
+        NgramIndex schedules = new NgramIndex();
+        for (Schedule schedule : scheduleRepository.findAll()) {
+            schedules.add(String.valueOf(schedule.getId()), SearchFields.of(schedule));
+        }
+        built.put(SearchType.SCHEDULE, schedules);
+        return built;
+    }
+
+    /**
+     * 생성 중 모아 둔 변경을 새 인덱스에 적용한 뒤 교체 (생성에 실패했으면 기존 인덱스에 적용)
+     *
+     * @return 다시 적용한 변경 묶음 수
+     */
+    private int swap(Map<SearchType, NgramIndex> built) {
+        swapLock.lock();
+        try {
+            Map<SearchType, NgramIndex> target = built != null ? built : indexes;
+            int replayed = pendingDuringBuild.size();
+            if (target != null) {
+                pendingDuringBuild.forEach(batch -> apply(target, batch));
+            }
+            pendingDuringBuild = null;
+            if (built != null) {
+                indexes = built;
+            }
+            return replayed;
+        } finally {
+            swapLock.unlock();
+        }
+    }
+
+    /**
+     * 트랜잭션 커밋 후 변경 묶음을 타입별로 한 번씩 인덱스에 반영
+     */
+    @EventListener
+    public void onDomainChange(DomainChangeBatch batch) {
+        if (batch.isOverflowed()) {
+            scheduleRebuild();
+            return;
+        }
+        swapLock.lock();
+        try {
+            if (pendingDuringBuild != null) {
+                pendingDuringBuild.add(batch);
+            } else if (indexes != null) {
+                apply(indexes, batch);
+            }
+        } finally {
+            swapLock.unlock();
+        }
+    }
+
+    /**
+     * 전체 재색인을 백그라운드에서 예약 (이미 예약돼 있으면 합침)
+     * 실행 중인 재색인이 있으면 끝난 뒤 한 번 더 수행해 그 이후 커밋된 변경까지 읽는다.
+     */
+    private void scheduleRebuild() {
+        if (searchProperties.mode() != SearchProperties.Mode.INDEX || !rebuildPending.compareAndSet(false, true)) {
+            return;
+        }
+        rebuilder.execute(() -> {
+            rebuildPending.set(false);
+            try {
+                // 프록시를 거치지 않아 JdbcConcurrencyLimiter 애스펙트가 보지 못하므로 허가를 직접 받는다
+                JdbcConcurrencyLimiter.runWithPermit(jdbcLimiter,
+                        () -> transactionTemplate.executeWithoutResult(status -> rebuild()));
+            } catch (RuntimeException e) {
+                log.error("검색 인덱스 재생성 실패 - 기존 인덱스 유지", e);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void close() {
+        rebuilder.shutdownNow();
+    }
+
+    private void apply(Map<SearchType, NgramIndex> current, DomainChangeBatch batch) {
+        apply(current.get(SearchType.PLAYER), batch, Player.class,
+                player -> String.valueOf(player.getPlayerId()), SearchFields::of);
+        apply(current.get(SearchType.TEAM), batch, Team.class, Team::getTeamId, SearchFields::of);
+        apply(current.get(SearchType.STADIUM), batch, Stadium.class, Stadium::getStadiumId, SearchFields::of);
+        apply(current.get(SearchType.SCHEDULE), batch, Schedule.class,
+                schedule -> String.valueOf(schedule.getId()), SearchFields::of);
+    }
+
+    /**
+     * 인덱스 생성이 끝났는지 여부 (생성 전에는 DB LIKE 검색으로 대체)
+     */
+    public boolean isReady() {
+        return indexes != null;
+    }
+
+    /**
+     * 키워드가 포함된 엔티티 중 관련도 상위 limit개의 식별자와 전체 일치 건수
+     */
+    public RankedKeys search(SearchType type, String keyword, int limit) {
+        return indexes.get(type).search(keyword, limit);
+    }
+
+    private <T> void apply(NgramIndex index, DomainChangeBatch batch, Class<T> entityType,
+            Function<T, String> key, Function<T, String[]> fields) {
+        if (!batch.contains(entityType)) {
+            return;
+        }
+        Map<String, String[]> upserts = new LinkedHashMap<>();
+        for (T entity : batch.entities(entityType, ChangeType.UPSERT)) {
+            upserts.put(key.apply(entity), fields.apply(entity));
+        }
+        List<String> removals = batch.entities(entityType, ChangeType.DELETE).stream()
+                .map(key)
+                .toList();
+        index.apply(upserts, removals);
+    }
+}
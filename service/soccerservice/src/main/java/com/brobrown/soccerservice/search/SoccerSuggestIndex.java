@@ -0,0 +1,219 @@
+package com.brobrown.soccerservice.search;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.brobrown.soccerservice.common.event.DomainChange.ChangeType;
+import com.brobrown.soccerservice.common.event.DomainChangeBatch;
+import com.brobrown.soccerservice.common.limit.JdbcConcurrencyLimiter;
+import com.brobrown.soccerservice.player.Player;
+import com.brobrown.soccerservice.player.PlayerRepository;
+import com.brobrown.soccerservice.player.PlayerSearchCondition;
+import com.brobrown.soccerservice.player.PlayerSummary;
+import com.brobrown.soccerservice.stadium.domain.Stadium;
+import com.brobrown.soccerservice.stadium.repository.StadiumRepository;
+import com.brobrown.soccerservice.team.domain.Team;
+import com.brobrown.soccerservice.team.repository.TeamRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 자동완성(/search/suggest) 후보 인덱스
+ * 선수명(한글/영문), 팀명(한글/영문), 경기장명, 지역명을 SuggestTrie로 만들어 두고 조회는 트라이에서만 처리한다.
+ * 원본별 후보 목록을 보관하다가 DomainChangeBatch가 오면 해당 원본만 교체하고,
+ * 트라이 재생성은 백그라운드 스레드 하나에서 모아서(여러 변경을 한 번에) 수행한 뒤 참조를 교체한다.
+ * 후보 전체 읽기(시작 시, 타입만 기록된 overflowed 변경 수신 시)도 같은 스레드에서만 실행하므로
+ * 오래된 스냅샷으로 만든 트라이가 더 최신 트라이를 덮어쓰지 않는다.
+ * 후보를 읽는 동안 커밋된 변경은 모아 두었다가 읽기가 끝난 뒤 다시 적용해 스냅샷이 덮어쓰지 않게 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SoccerSuggestIndex {
+
+    private final PlayerRepository playerRepository;
+    private final TeamRepository teamRepository;
+    private final StadiumRepository stadiumRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectProvider<JdbcConcurrencyLimiter> jdbcLimiter;
+
+    /** "player:1" 같은 원본 식별자 -> 해당 원본이 제공하는 후보 */
+    private final Map<String, List<Suggestion>> bySource = new ConcurrentHashMap<>();
+    private final AtomicBoolean rebuildPending = new AtomicBoolean();
+    private final ReentrantLock loadLock = new ReentrantLock();
+    private final ExecutorService rebuilder = Executors.newSingleThreadExecutor(
+            Thread.ofVirtual().name("suggest-rebuild").factory());
+
+    private volatile SuggestTrie trie = SuggestTrie.empty();
+
+    /** 시작 시 후보를 읽는 동안 도착한 변경 (읽는 중이 아니면 null, loadLock으로 보호) */
+    private List<DomainChangeBatch> pendingDuringLoad;
+
+    /**
+     * 애플리케이션 시작 완료 시 재생성 스레드에서 후보 전체를 읽음
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        rebuilder.execute(this::reload);
+    }
+
+    private void load() {
+        loadLock.lock();
+        try {
+            pendingDuringLoad = new ArrayList<>();
+        } finally {
+            loadLock.unlock();
+        }
+        Map<String, List<Suggestion>> loaded = new HashMap<>();
+        try {
+            for (PlayerSummary player : playerRepository.search(new PlayerSearchCondition(), Pageable.unpaged())) {
+                loaded.put(source("player", player.playerId()), suggestions("player", player.playerName(), player.ePlayerName()));
+            }
+            teamRepository.findAll().forEach(team -> loaded.put(source("team", team.getTeamId()), teamSuggestions(team)));
+            stadiumRepository.findAll().forEach(stadium -> loaded.put(source("stadium", stadium.getStadiumId()),
+                    suggestions("stadium", stadium.getStadiumName())));
+            // 다시 읽는 경우 그 사이 삭제된 원본이 남지 않도록 통째로 교체
+            bySource.keySet().retainAll(loaded.keySet());
+            bySource.putAll(loaded);
+        } finally {
+            loadLock.lock();
+            try {
+                pendingDuringLoad.forEach(this::apply);
+                pendingDuringLoad = null;
+            } finally {
+                loadLock.unlock();
+            }
+        }
+        rebuild();
+    }
+
+    @EventListener
+    public void onDomainChange(DomainChangeBatch batch) {
+        if (batch.isOverflowed(Player.class) || batch.isOverflowed(Team.class) || batch.isOverflowed(Stadium.class)) {
+            rebuilder.execute(this::reload);
+            return;
+        }
+        loadLock.lock();
+        try {
+            if (pendingDuringLoad != null) {
+                pendingDuringLoad.add(batch);
+                return;
+            }
+        } finally {
+            loadLock.unlock();
+        }
+        if (apply(batch) && rebuildPending.compareAndSet(false, true)) {
+            rebuilder.execute(() -> {
+                rebuildPending.set(false);
+                rebuild();
+            });
+        }
+    }
+
+    /**
+     * 후보 전체를 다시 읽어 트라이 재생성 (rebuilder 스레드에서만 실행)
+     */
+    private void reload() {
+        try {
+            // 프록시를 거치지 않아 JdbcConcurrencyLimiter 애스펙트가 보지 못하므로 허가를 직접 받는다
+            JdbcConcurrencyLimiter.runWithPermit(jdbcLimiter,
+                    () -> transactionTemplate.executeWithoutResult(status -> load()));
+        } catch (RuntimeException e) {
+            log.error("자동완성 인덱스 재생성 실패 - 기존 후보 유지", e);
+        }
+    }
+
+    /**
+     * 변경된 원본의 후보만 교체
+     *
+     * @return 후보가 바뀐 원본이 있는지 여부
+     */
+    private boolean apply(DomainChangeBatch batch) {
+        boolean changed = apply(batch, Player.class, player -> source("player", player.getPlayerId()),
+                player -> suggestions("player", player.getPlayerName(), player.getEPlayerName()));
+        changed |= apply(batch, Team.class, team -> source("team", team.getTeamId()), this::teamSuggestions);
+        changed |= apply(batch, Stadium.class, stadium -> source("stadium", stadium.getStadiumId()),
+                stadium -> suggestions("stadium", stadium.getStadiumName()));
+        return changed;
+    }
+
+    /**
+     * 접두사(입력 중인 음절 포함)로 시작하는 후보
+     */
+    public List<Suggestion> suggest(String prefix, int limit) {
+        return trie.suggest(prefix, Math.min(limit, SuggestTrie.MAX_SUGGESTIONS));
+    }
+
+    @PreDestroy
+    public void close() {
+        rebuilder.shutdownNow();
+    }
+
+    /**
+     * 같은 값(예: 여러 팀의 같은 지역명)은 하나로 합치고 원본 수를 가중치로 사용
+     */
+    private void rebuild() {
+        long start = System.currentTimeMillis();
+        Map<Suggestion, Integer> counts = new LinkedHashMap<>();
+        bySource.values().forEach(list -> list.forEach(suggestion -> counts.merge(suggestion, 1, Integer::sum)));
+        List<Suggestion> merged = new ArrayList<>(counts.size());
+        counts.forEach((suggestion, count) -> merged.add(new Suggestion(suggestion.text(), suggestion.type(), count)));
+        trie = SuggestTrie.build(merged);
+        log.info("자동완성 인덱스 생성 완료 - 후보: {} ({} ms)", merged.size(), System.currentTimeMillis() - start);
+    }
+
+    private <T> boolean apply(DomainChangeBatch batch, Class<T> entityType, Function<T, String> source,
+            Function<T, List<Suggestion>> suggestions) {
+        if (!batch.contains(entityType)) {
+            return false;
+        }
+        batch.entities(entityType, ChangeType.DELETE).forEach(entity -> bySource.remove(source.apply(entity)));
+        batch.entities(entityType, ChangeType.UPSERT)
+                .forEach(entity -> bySource.put(source.apply(entity), suggestions.apply(entity)));
+        return true;
+    }
+
+    private List<Suggestion> teamSuggestions(Team team) {
+        return Stream.concat(
+                suggestions("team", team.getTeamName(), team.getETeamName()).stream(),
+                suggestions("region", team.getRegionName()).stream())
+                .toList();
+    }
+
+    private static String source(String type, Object id) {
+        return type + ":" + id;
+    }
+
+    /**
+     * 빈 값을 제외한 후보 목록 (가중치는 재생성 시 다시 계산)
+     */
+    private static List<Suggestion> suggestions(String type, String... texts) {
+        return Stream.of(texts)
+                .filter(Objects::nonNull)
+                .map(String::strip)
+                .filter(text -> !text.isEmpty())
+                .distinct()
+                .map(text -> new Suggestion(text, type, 1))
+                .toList();
+    }
+}
@@ -0,0 +1,148 @@
+package com.brobrown.soccerservice.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 자동완성용 압축 접두사 트라이 (radix tree, 불변)
+ * 키는 정규화 후 자모 분해한 문자열이며, 자식이 하나뿐인 노드는 간선 레이블로 합쳐 노드 수를 줄인다.
+ * 노드마다 하위 후보 중 상위 MAX_SUGGESTIONS개를 미리 계산해 두므로
+ * 조회는 접두사 길이만큼 내려가는 것으로 끝나고 후보 수와 무관하다.
+ * 여러 단어로 된 값은 두 번째 단어부터의 접미사도 키로 넣어 중간 단어로도 찾을 수 있다.
+ */
+public final class SuggestTrie {
+
+    /** 노드당 미리 계산해 두는 후보 수 (조회 limit 상한) */
+    public static final int MAX_SUGGESTIONS = 10;
+
+    private static final Comparator<Suggestion> RANK = Comparator
+            .comparingInt(Suggestion::weight).reversed()
+            .thenComparingInt(suggestion -> suggestion.text().length())
+            .thenComparing(Suggestion::text)
+            .thenComparing(Suggestion::type);
+
+    private static final SuggestTrie EMPTY = new SuggestTrie(new Node("", new char[0], new Node[0], new Suggestion[0]));
+
+    private final Node root;
+
+    private SuggestTrie(Node root) {
+        this.root = root;
+    }
+
+    public static SuggestTrie empty() {
+        return EMPTY;
+    }
+
+    public static SuggestTrie build(Collection<Suggestion> suggestions) {
+        BuildNode root = new BuildNode();
+        for (Suggestion suggestion : suggestions) {
+            String normalized = HangulNgrams.normalize(suggestion.text()).strip();
+            if (normalized.isEmpty()) {
+                continue;
+            }
+            root.insert(HangulJamo.decompose(normalized), suggestion);
+            for (int i = 1; i < normalized.length(); i++) {
+                if (Character.isWhitespace(normalized.charAt(i - 1)) && !Character.isWhitespace(normalized.charAt(i))) {
+                    root.insert(HangulJamo.decompose(normalized.substring(i)), suggestion);
+                }
+            }
+        }
+        return new SuggestTrie(root.freeze("", false));
+    }
+
+    /**
+     * 접두사로 시작하는 상위 후보 (입력 중인 음절도 자모 단위로 일치)
+     */
+    public List<Suggestion> suggest(String prefix, int limit) {
+        String key = HangulJamo.decompose(HangulNgrams.normalize(prefix).strip());
+        if (key.isEmpty() || limit < 1) {
+            return List.of();
+        }
+        Node node = root;
+        int i = 0;
+        while (i < key.length()) {
+            Node child = node.child(key.charAt(i));
+            if (child == null) {
+                return List.of();
+            }
+            int n = Math.min(child.label.length(), key.length() - i);
+            if (!child.label.regionMatches(0, key, i, n)) {
+                return List.of();
+            }
+            i += n;
+            node = child;
+        }
+        return Arrays.asList(node.top).subList(0, Math.min(limit, node.top.length));
+    }
+
+    private static final class Node {
+        private final String label;
+        private final char[] firstChars;
+        private final Node[] children;
+        private final Suggestion[] top;
+
+        private Node(String label, char[] firstChars, Node[] children, Suggestion[] top) {
+            this.label = label;
+            this.firstChars = firstChars;
+            this.children = children;
+            this.top = top;
+        }
+
+        private Node child(char c) {
+            int index = Arrays.binarySearch(firstChars, c);
+            return index >= 0 ? children[index] : null;
+        }
+    }
+
+    /**
+     * 빌드 중에만 쓰는 가변 노드 (한 글자 간선)
+     */
+    private static final class BuildNode {
+        private final Map<Character, BuildNode> children = new TreeMap<>();
+        private final List<Suggestion> terminals = new ArrayList<>(1);
+
+        private void insert(String key, Suggestion suggestion) {
+            BuildNode node = this;
+            for (int i = 0; i < key.length(); i++) {
+                node = node.children.computeIfAbsent(key.charAt(i), c -> new BuildNode());
+            }
+            node.terminals.add(suggestion);
+        }
+
+        /**
+         * 단일 자식 체인을 하나의 간선 레이블로 압축하고 노드별 상위 후보를 계산 (루트는 압축하지 않음)
+         */
+        private Node freeze(String label, boolean compress) {
+            BuildNode node = this;
+            StringBuilder merged = new StringBuilder(label);
+            while (compress && node.terminals.isEmpty() && node.children.size() == 1) {
+                Map.Entry<Character, BuildNode> only = node.children.entrySet().iterator().next();
+                merged.append(only.getKey());
+                node = only.getValue();
+            }
+
+            char[] firstChars = new char[node.children.size()];
+            Node[] frozen = new Node[node.children.size()];
+            Set<Suggestion> candidates = new LinkedHashSet<>(node.terminals);
+            int index = 0;
+            for (Map.Entry<Character, BuildNode> entry : node.children.entrySet()) {
+                firstChars[index] = entry.getKey();
+                frozen[index] = entry.getValue().freeze(String.valueOf(entry.getKey()), true);
+                candidates.addAll(Arrays.asList(frozen[index].top));
+                index++;
+            }
+            Suggestion[] top = candidates.stream()
+                    .sorted(RANK)
+                    .limit(MAX_SUGGESTIONS)
+                    .toArray(Suggestion[]::new);
+            return new Node(merged.toString(), firstChars, frozen, top);
+        }
+    }
+}
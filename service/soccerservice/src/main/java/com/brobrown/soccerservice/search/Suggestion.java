@@ -0,0 +1,11 @@
+package com.brobrown.soccerservice.search;
+
+/**
+ * 자동완성 후보
+ *
+ * @param text   표시할 값 (선수명, 팀명, 경기장명, 지역명)
+ * @param type   후보 종류 (player, team, stadium, region)
+ * @param weight 같은 값을 가진 원본 수 (높을수록 먼저 제안)
+ */
+public record Suggestion(String text, String type, int weight) {
+}
@@ -0,0 +1,56 @@
+package com.brobrown.soccerservice.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 점수 상위 K개만 보관하는 최소 힙
+ * 전체 후보를 정렬하지 않고 O(n log K)로 상위 K개를 고르며, 동점이면 먼저 들어온 항목을 우선한다.
+ */
+public final class TopK<T> {
+
+    /** 힙 루트(가장 먼저 밀려날 항목): 점수가 낮고, 동점이면 나중에 들어온 항목 */
+    private static final Comparator<Entry<?>> WORST_FIRST = Comparator
+            .<Entry<?>>comparingInt(Entry::score)
+            .thenComparing(Comparator.<Entry<?>>comparingLong(Entry::sequence).reversed());
+
+    private final int limit;
+    private final PriorityQueue<Entry<T>> heap;
+    private long sequence;
+
+    public TopK(int limit) {
+        this.limit = Math.max(0, limit);
+        this.heap = new PriorityQueue<>(Math.max(1, this.limit), WORST_FIRST);
+    }
+
+    public void offer(T item, int score) {
+        Entry<T> entry = new Entry<>(item, score, sequence++);
+        if (heap.size() < limit) {
+            heap.add(entry);
+        } else if (limit > 0 && WORST_FIRST.compare(entry, heap.peek()) > 0) {
+            heap.poll();
+            heap.add(entry);
+        }
+    }
+
+    /**
+     * 지금까지 offer 된 전체 후보 수
+     */
+    public int offered() {
+        return (int) sequence;
+    }
+
+    /**
+     * 점수 내림차순(동점이면 입력 순서) 상위 K개
+     */
+    public List<Entry<T>> sorted() {
+        List<Entry<T>> entries = new ArrayList<>(heap);
+        entries.sort(WORST_FIRST.reversed());
+        return entries;
+    }
+
+    public record Entry<T>(T item, int score, long sequence) {
+    }
+}
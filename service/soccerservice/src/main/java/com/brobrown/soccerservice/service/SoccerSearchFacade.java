@@ -1,65 +1,313 @@
 package com.brobrown.soccerservice.service;
 
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 import com.brobrown.soccerservice.common.Messenger;
+import com.brobrown.soccerservice.common.SingleFlight;
+import com.brobrown.soccerservice.config.SearchProperties;
 import com.brobrown.soccerservice.player.PlayerService;
 import com.brobrown.soccerservice.schedule.service.ScheduleService;
+import com.brobrown.soccerservice.search.FullTextSearch;
+import com.brobrown.soccerservice.search.GlobalSearchResult;
+import com.brobrown.soccerservice.search.HangulNgrams;
+import com.brobrown.soccerservice.search.RankedKeys;
+import com.brobrown.soccerservice.search.SearchHit;
+import com.brobrown.soccerservice.search.SearchHits;
+import com.brobrown.soccerservice.search.SearchMetrics;
+import com.brobrown.soccerservice.search.SearchMetrics.Outcome;
+import com.brobrown.soccerservice.search.SearchType;
+import com.brobrown.soccerservice.search.SoccerSearchIndex;
+import com.brobrown.soccerservice.search.TopK;
 import com.brobrown.soccerservice.stadium.service.StadiumService;
 import com.brobrown.soccerservice.team.service.TeamService;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.annotation.Timed;
+
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
-@RequiredArgsConstructor
+@Timed(value = "soccer.service", histogram = true)
 public class SoccerSearchFacade {
 
+    /** 모든 타입을 동시에 검색하는 type 값 */
+    private static final String ALL_TYPES = "all";
+
     private final PlayerService playerService;
     private final TeamService teamService;
     private final StadiumService stadiumService;
     private final ScheduleService scheduleService;
+    private final SoccerSearchIndex soccerSearchIndex;
+    private final FullTextSearch fullTextSearch;
+    private final ExecutorService searchExecutor;
+    private final SearchProperties searchProperties;
+    private final SearchMetrics searchMetrics;
+    private final SingleFlight<FlightKey, Messenger> inFlightSearches;
+
+    public SoccerSearchFacade(PlayerService playerService, TeamService teamService,
+            StadiumService stadiumService, ScheduleService scheduleService,
+            SoccerSearchIndex soccerSearchIndex, FullTextSearch fullTextSearch,
+            @Qualifier("searchExecutor") ExecutorService searchExecutor,
+            SearchProperties searchProperties, SearchMetrics searchMetrics) {
+        this.playerService = playerService;
+        this.teamService = teamService;
+        this.stadiumService = stadiumService;
+        this.scheduleService = scheduleService;
+        this.soccerSearchIndex = soccerSearchIndex;
+        this.fullTextSearch = fullTextSearch;
+        this.searchExecutor = searchExecutor;
+        this.searchProperties = searchProperties;
+        this.searchMetrics = searchMetrics;
+        this.inFlightSearches = new SingleFlight<>(searchProperties.coalesceWait(), SoccerSearchFacade::searchBusy,
+                searchMetrics::recordCoalesce);
+        searchMetrics.registerInFlight(inFlightSearches);
+    }
 
     /**
      * 퍼사드 패턴을 사용한 통합 검색 메서드
      * 타입에 따라 적절한 서비스의 findByKeyword를 호출
+     * 검색 방식(soccer.search.mode)에 따라 인메모리 인덱스 또는 DB 전문 검색에서 식별자를 먼저 찾고,
+     * 인덱스 준비 전이거나 전문 검색을 쓸 수 없으면 DB LIKE 검색으로 처리
+     * type이 all 이거나 쉼표로 여러 타입을 지정하면 타입별 검색을 가상 스레드에서 동시에 실행
      * 
-     * @param type    검색할 엔티티 타입 (player, team, stadium, schedule)
+     * @param type    검색할 엔티티 타입 (player, team, stadium, schedule, all 또는 "player,team")
      * @param keyword 검색어
      * @return 검색 결과
      */
     public Messenger searchByKeyword(String type, String keyword) {
-        System.out.println("=== SoccerSearchFacade: 통합 검색 시작 ===");
-        System.out.println("검색 타입: " + type);
-        System.out.println("검색어: " + keyword);
-
+        long start = System.nanoTime();
+        Set<SearchType> types = parseTypes(type);
         Messenger result;
 
-        switch (type.toLowerCase()) {
-            case "player":
-                System.out.println(">>> Player 검색 실행");
-                result = playerService.findByKeyword(keyword);
-                break;
-            case "team":
-                System.out.println(">>> Team 검색 실행");
-                result = teamService.findByKeyword(keyword);
-                break;
-            case "stadium":
-                System.out.println(">>> Stadium 검색 실행");
-                result = stadiumService.findByKeyword(keyword);
-                break;
-            case "schedule":
-                System.out.println(">>> Schedule 검색 실행");
-                result = scheduleService.findByKeyword(keyword);
-                break;
-            default:
-                System.out.println(">>> 알 수 없는 타입: " + type);
-                result = Messenger.builder()
-                        .code(400)
-                        .message("Unknown search type: " + type)
+        if (types == null) {
+            log.debug("search.rejected reason=unknown_type type={}", type);
+            result = Messenger.builder()
+                    .code(400)
+                    .message("Unknown search type: " + type)
+                    .build();
+        } else if (types.size() == 1) {
+            result = searchOne(types.iterator().next(), keyword);
+        } else {
+            result = searchAll(types, keyword);
+        }
+
+        // 요청 수/지연은 @Timed와 SearchMetrics가 집계하므로 요청별 로그는 DEBUG에서만 남긴다
+        // (검색어는 사용자가 입력한 값이라 개인정보가 섞일 수 있음)
+        if (log.isDebugEnabled()) {
+            long tookMs = (System.nanoTime() - start) / 1_000_000;
+            log.debug("search.done type={} code={} tookMs={} keyword={}", type, result.getCode(), tookMs, keyword);
+        }
+        return result;
+    }
+
+    /**
+     * 타입별 검색을 동시에 시작하고 공통 마감 시각까지 결과를 모은다.
+     * 전체 응답 시간은 네 분기의 합이 아니라 가장 느린 분기(최대 branchTimeout)로 제한된다.
+     * 분기 결과는 관련도 점수 순으로 하나의 목록으로 합친다.
+     */
+    private Messenger searchAll(Set<SearchType> types, String keyword) {
+        log.debug("search.fanout types={}", types);
+
+        Map<SearchType, Future<Messenger>> futures = new EnumMap<>(SearchType.class);
+        for (SearchType type : types) {
+            futures.put(type, searchExecutor.submit(() -> searchOne(type, keyword)));
+        }
+
+        long deadline = System.nanoTime() + searchProperties.branchTimeout().toNanos();
+        List<SearchHit<?>> hits = new ArrayList<>();
+        Map<String, Integer> totalHits = new LinkedHashMap<>();
+        List<String> timedOut = new ArrayList<>();
+        List<String> failed = new ArrayList<>();
+
+        for (Map.Entry<SearchType, Future<Messenger>> entry : futures.entrySet()) {
+            String name = entry.getKey().name().toLowerCase(Locale.ROOT);
+            Future<Messenger> future = entry.getValue();
+            try {
+                Messenger branch = future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                if (branch.getCode() == 200 && branch.getData() instanceof SearchHits<?> branchHits) {
+                    hits.addAll(branchHits.hits());
+                    totalHits.put(name, branchHits.totalHits());
+                } else if (isBusy(branch)) {
+                    // 합쳐진 같은 검색을 기다리다 포기한 분기 (searchOne이 TIMEOUT으로 기록함)
+                    timedOut.add(name);
+                } else {
+                    failed.add(name);
+                }
+            } catch (TimeoutException e) {
+                abandon(future);
+                timedOut.add(name);
+                searchMetrics.record(entry.getKey(), Outcome.TIMEOUT);
+                log.warn("search.branch.timeout type={} timeout={}", name, searchProperties.branchTimeout());
+            } catch (ExecutionException e) {
+                failed.add(name);
+                searchMetrics.record(entry.getKey(), Outcome.ERROR);
+                log.warn("search.branch.failed type={}", name, e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.values().forEach(this::abandon);
+                return Messenger.builder()
+                        .code(500)
+                        .message("통합 검색 중단")
                         .build();
+            }
+        }
+
+        if (totalHits.isEmpty() && !failed.isEmpty() && timedOut.isEmpty()) {
+            return Messenger.builder()
+                    .code(500)
+                    .message("통합 검색 실패: " + failed)
+                    .build();
         }
+        return Messenger.builder()
+                .code(200)
+                .message(timedOut.isEmpty() && failed.isEmpty()
+                        ? "통합 검색 성공"
+                        : "통합 검색 부분 성공 (시간 초과: " + timedOut + ", 실패: " + failed + ")")
+                .data(new GlobalSearchResult(merge(hits), totalHits, timedOut, failed))
+                .build();
+    }
+
+    /**
+     * 마감을 넘긴 분기의 결과를 버린다.
+     * 합치기를 켜면 분기가 같은 검색을 기다리는 다른 요청들의 leader일 수 있으므로 인터럽트하지 않고 끝까지 실행하게 둔다
+     * (leader를 중단시키면 follower가 모두 실패 응답을 받는다).
+     */
+    private void abandon(Future<Messenger> future) {
+        future.cancel(!searchProperties.coalesce());
+    }
 
-        System.out.println("=== SoccerSearchFacade: 통합 검색 완료 ===");
+    /**
+     * 한 타입 검색 후 타입별 요청 수/일치 건수 기록
+     * 같은 (타입, 검색어)가 이미 실행 중이면 그 결과를 함께 받는다 (type=all 분기와 단일 타입 요청도 서로 합쳐짐).
+     */
+    private Messenger searchOne(SearchType type, String keyword) {
+        log.debug("search.branch type={} mode={} indexReady={}", type, searchProperties.mode(), soccerSearchIndex.isReady());
+        Messenger result = searchProperties.coalesce()
+                ? inFlightSearches.execute(flightKey(type, keyword), () -> lookup(type, keyword))
+                : lookup(type, keyword);
+        if (result.getCode() == 200 && result.getData() instanceof SearchHits<?> hits) {
+            searchMetrics.recordHits(type, hits.totalHits());
+        } else if (isBusy(result)) {
+            searchMetrics.record(type, Outcome.TIMEOUT);
+        } else {
+            searchMetrics.record(type, Outcome.ERROR);
+        }
         return result;
     }
+
+    private Messenger lookup(SearchType type, String keyword) {
+        RankedKeys hits = rankedKeys(type, keyword);
+        switch (type) {
+            case PLAYER:
+                return hits != null
+                        ? playerService.findByKeyword(keyword, hits)
+                        : playerService.findByKeyword(keyword);
+            case TEAM:
+                return hits != null
+                        ? teamService.findByKeyword(keyword, hits)
+                        : teamService.findByKeyword(keyword);
+            case STADIUM:
+                return hits != null
+                        ? stadiumService.findByKeyword(keyword, hits)
+                        : stadiumService.findByKeyword(keyword);
+            case SCHEDULE:
+            default:
+                return hits != null
+                        ? scheduleService.findByKeyword(keyword, hits)
+                        : scheduleService.findByKeyword(keyword);
+        }
+    }
+
+    /**
+     * 검색 방식별 관련도 상위 식별자 (null이면 LIKE 검색으로 대체)
+     */
+    private RankedKeys rankedKeys(SearchType type, String keyword) {
+        switch (searchProperties.mode()) {
+            case INDEX:
+                return soccerSearchIndex.isReady() ? soccerSearchIndex.search(type, keyword, topK()) : null;
+            case FULLTEXT:
+                return fullTextSearch.search(type, keyword, topK());
+            case LIKE:
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * 같은 검색이 coalesceWait 안에 끝나지 않거나 실패했을 때 기다리던 요청에 돌려주는 빠른 실패 응답
+     * 직접 다시 실행하면 느려진 DB에 같은 쿼리가 한꺼번에 몰리므로 503으로 재시도를 유도한다.
+     */
+    private static Messenger searchBusy(FlightKey key) {
+        return Messenger.builder()
+                .code(503)
+                .message("Search busy, retry later: " + key.type().name().toLowerCase(Locale.ROOT))
+                .build();
+    }
+
+    private static boolean isBusy(Messenger result) {
+        return result.getCode() == 503;
+    }
+
+    /**
+     * 결과가 같다고 보장되는 요청끼리만 합친다.
+     * 인메모리 인덱스는 검색어를 NFC + 소문자로 정규화해 찾으므로 정규화한 값으로 키를 만든다.
+     * 전문 검색은 후보를 찾은 뒤 원문 검색어의 LIKE(대소문자 구분)로 다시 거르므로 DB LIKE와 같이 원문 그대로 키를 만든다.
+     */
+    private FlightKey flightKey(SearchType type, String keyword) {
+        boolean normalizedLookup = switch (searchProperties.mode()) {
+            case INDEX -> soccerSearchIndex.isReady();
+            case FULLTEXT, LIKE -> false;
+        };
+        return new FlightKey(type, normalizedLookup ? HangulNgrams.normalize(keyword) : keyword);
+    }
+
+    /**
+     * 타입별 상위 결과를 점수 기준으로 합쳐 전체 상위 topK개만 남김
+     */
+    private List<SearchHit<?>> merge(List<SearchHit<?>> hits) {
+        TopK<SearchHit<?>> top = new TopK<>(topK());
+        hits.forEach(hit -> top.offer(hit, hit.score()));
+        return top.sorted().stream().<SearchHit<?>>map(TopK.Entry::item).toList();
+    }
+
+    private int topK() {
+        return searchProperties.topK();
+    }
+
+    /**
+     * "all", 단일 타입, 쉼표로 구분된 타입 목록을 해석 (알 수 없는 타입이 있으면 null)
+     */
+    private Set<SearchType> parseTypes(String type) {
+        String normalized = type.trim().toLowerCase(Locale.ROOT);
+        if (ALL_TYPES.equals(normalized)) {
+            return EnumSet.allOf(SearchType.class);
+        }
+        Set<SearchType> types = EnumSet.noneOf(SearchType.class);
+        for (String token : normalized.split(",")) {
+            try {
+                types.add(SearchType.valueOf(token.trim().toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+        return types;
+    }
+
+    private record FlightKey(SearchType type, String keyword) {
+    }
 }
@@ -2,18 +2,40 @@ package com.brobrown.soccerservice.stadium.domain;
 
 import java.util.List;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NotFound;
+import org.hibernate.annotations.NotFoundAction;
+
+import com.brobrown.soccerservice.common.event.DomainChangeListener;
 import com.brobrown.soccerservice.schedule.domain.Schedule;
 import com.brobrown.soccerservice.team.domain.Team;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.ConstraintMode;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.ForeignKey;
 import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
-import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
 import lombok.Data;
 
+/**
+ * 경기장 (참조 데이터)
+ * 2차 캐시(stadium 리전)에 두며, schedules 컬렉션은 원소(Schedule)가 캐시 대상이 아니어서 캐시하지 않는다.
+ * team은 hometeam_id 외래 키로 연결하므로 캐시 항목에 팀 ID만 들어가고, 캐시에서 조립할 때 팀도 team 리전에서 찾는다.
+ */
 @Entity
+@EntityListeners(DomainChangeListener.class)
 @Table(name = "stadium")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "stadium")
 @Data
 public class Stadium {
 
@@ -32,10 +54,18 @@ public class Stadium {
 
     private String tel;
 
-    @OneToOne(mappedBy = "stadium")
+    // 홈 팀 (hometeam_id 로 읽기 전용 연결, 값은 hometeamId 필드로 쓴다)
+    // mappedBy 역방향 OneToOne은 캐시 조립 때마다 팀을 stadium_id로 다시 SELECT 하므로 쓰지 않는다.
+    // hometeam_id 에는 FK 제약이 없어 없는 팀을 가리키면 null로 둔다 (NotFound는 즉시 로딩이지만 팀은 team 리전에서 찾는다)
+    @ManyToOne
+    @NotFound(action = NotFoundAction.IGNORE)
+    @JoinColumn(name = "hometeam_id", insertable = false, updatable = false,
+            foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+    @JsonIgnoreProperties({ "stadium", "players" })
     private Team team;
 
     @OneToMany(mappedBy = "stadium")
+    @JsonIgnore
     private List<Schedule> schedules;
 
 }
@@ -0,0 +1,31 @@
+package com.brobrown.soccerservice.stadium.domain;
+
+import com.brobrown.soccerservice.team.domain.Team;
+
+/**
+ * 경기장 조회 응답 모델
+ * 엔티티 대신 응답에 필요한 값만 담아 Hibernate 프록시/양방향 연관관계를 직렬화하지 않는다.
+ */
+public record StadiumView(
+        String stadiumId,
+        String stadiumName,
+        String hometeamId,
+        Integer seatCount,
+        String address,
+        String ddd,
+        String tel,
+        String teamName) {
+
+    public static StadiumView from(Stadium stadium) {
+        Team team = stadium.getTeam();
+        return new StadiumView(
+                stadium.getStadiumId(),
+                stadium.getStadiumName(),
+                stadium.getHometeamId(),
+                stadium.getSeatCount(),
+                stadium.getAddress(),
+                stadium.getDdd(),
+                stadium.getTel(),
+                team != null ? team.getTeamName() : null);
+    }
+}
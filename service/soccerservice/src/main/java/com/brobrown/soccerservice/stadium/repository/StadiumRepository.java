@@ -1,18 +1,66 @@
 package com.brobrown.soccerservice.stadium.repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.brobrown.soccerservice.stadium.domain.Stadium;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface StadiumRepository extends JpaRepository<Stadium, String> {
     
+    /**
+     * 키워드 LIKE 검색 (쿼리 캐시 사용, stadium/team 테이블 변경 시 Hibernate가 결과를 무효화)
+     * 캐시 적중 시 경기장은 stadium 리전, 홈 팀은 team 리전에서 ID로 조립한다.
+     */
+    @EntityGraph(attributePaths = "team")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "reference-queries") })
     @Query("SELECT s FROM Stadium s WHERE s.stadiumName LIKE %:keyword% OR s.address LIKE %:keyword%")
     List<Stadium> findByKeyword(@Param("keyword") String keyword);
-}
 
+    /**
+     * 대량 적재 시 FK 확인용 전체 경기장 ID 목록
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "reference-queries") })
+    @Query("SELECT s.stadiumId FROM Stadium s")
+    List<String> findAllIds();
+
+    /**
+     * 키셋 페이지 조회 (stadiumId 오름차순, stadiumId 초과)
+     */
+    @EntityGraph(attributePaths = "team")
+    List<Stadium> findByStadiumIdGreaterThanOrderByStadiumIdAsc(String stadiumId, Limit limit);
+
+    @EntityGraph(attributePaths = "team")
+    List<Stadium> findAllByOrderByStadiumIdAsc(Limit limit);
+
+    /**
+     * 검색 인덱스 결과 조회 (홈 팀 함께 조회)
+     */
+    @EntityGraph(attributePaths = "team")
+    List<Stadium> findByStadiumIdIn(Collection<String> stadiumIds);
+
+    @Override
+    @EntityGraph(attributePaths = "team")
+    Optional<Stadium> findById(String stadiumId);
+
+    // Stadium.team(@NotFound)은 항상 즉시 로딩되므로 전체 조회도 조인으로 가져온다
+    @Override
+    @EntityGraph(attributePaths = "team")
+    List<Stadium> findAll();
+}
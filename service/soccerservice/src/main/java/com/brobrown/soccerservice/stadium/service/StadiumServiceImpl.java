@@ -1,24 +1,55 @@
 package com.brobrown.soccerservice.stadium.service;
 
+import java.io.InputStream;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 
+import com.brobrown.soccerservice.common.BulkIngestResult;
+import com.brobrown.soccerservice.common.CursorPage;
+import com.brobrown.soccerservice.common.CursorPage.InvalidCursorException;
+import com.brobrown.soccerservice.common.JsonChunks;
 import com.brobrown.soccerservice.common.Messenger;
+import com.brobrown.soccerservice.config.PaginationProperties;
+import com.brobrown.soccerservice.config.SearchProperties;
+import com.brobrown.soccerservice.search.RankedKeys;
+import com.brobrown.soccerservice.search.SearchFields;
+import com.brobrown.soccerservice.search.SearchHits;
+import com.brobrown.soccerservice.search.SearchType;
 import com.brobrown.soccerservice.stadium.domain.Stadium;
 import com.brobrown.soccerservice.stadium.domain.StadiumDTO;
+import com.brobrown.soccerservice.stadium.domain.StadiumView;
 import com.brobrown.soccerservice.stadium.repository.StadiumRepository;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.annotation.Timed;
+
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
+@Timed(value = "soccer.service", histogram = true)
 public class StadiumServiceImpl implements StadiumService {
 
+    /** 대량 적재 시 한 번에 flush/clear 하는 행 수 (hibernate.jdbc.batch_size와 맞춤) */
+    private static final int BULK_CHUNK_SIZE = 500;
+
     private final StadiumRepository stadiumRepository;
+    private final PaginationProperties paginationProperties;
+    private final SearchProperties searchProperties;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
 
     @Override
     public Messenger save(StadiumDTO stadiumDTO) {
@@ -29,7 +60,7 @@ public class StadiumServiceImpl implements StadiumService {
             return Messenger.builder()
                     .code(200)
                     .message("Stadium saved successfully")
-                    .data(saved)
+                    .data(StadiumView.from(saved))
                     .build();
         } catch (Exception e) {
             return Messenger.builder()
@@ -54,7 +85,7 @@ public class StadiumServiceImpl implements StadiumService {
             return Messenger.builder()
                     .code(200)
                     .message("Stadium updated successfully")
-                    .data(updated)
+                    .data(StadiumView.from(updated))
                     .build();
         } catch (Exception e) {
             return Messenger.builder()
@@ -95,7 +126,7 @@ public class StadiumServiceImpl implements StadiumService {
             return Messenger.builder()
                     .code(200)
                     .message("Stadium found")
-                    .data(stadium)
+                    .data(StadiumView.from(stadium))
                     .build();
         } catch (Exception e) {
             return Messenger.builder()
@@ -107,13 +138,22 @@ public class StadiumServiceImpl implements StadiumService {
 
     @Override
     @Transactional(readOnly = true)
-    public Messenger findAll() {
+    public Messenger findAll(String cursor, Integer size) {
         try {
-            List<Stadium> stadiums = stadiumRepository.findAll();
+            int limit = paginationProperties.resolve(size);
+            String after = CursorPage.decode(cursor);
+            List<Stadium> stadiums = after == null
+                    ? stadiumRepository.findAllByOrderByStadiumIdAsc(Limit.of(limit + 1))
+                    : stadiumRepository.findByStadiumIdGreaterThanOrderByStadiumIdAsc(after, Limit.of(limit + 1));
             return Messenger.builder()
                     .code(200)
                     .message("Stadiums retrieved successfully")
-                    .data(stadiums)
+                    .data(CursorPage.of(stadiums, limit, Stadium::getStadiumId).map(StadiumView::from))
+                    .build();
+        } catch (InvalidCursorException e) {
+            return Messenger.builder()
+                    .code(400)
+                    .message(e.getMessage())
                     .build();
         } catch (Exception e) {
             return Messenger.builder()
@@ -134,7 +174,7 @@ public class StadiumServiceImpl implements StadiumService {
             return Messenger.builder()
                     .code(200)
                     .message("Stadiums saved successfully")
-                    .data(saved)
+                    .data(saved.stream().map(StadiumView::from).collect(Collectors.toList()))
                     .build();
         } catch (Exception e) {
             return Messenger.builder()
@@ -152,7 +192,8 @@ public class StadiumServiceImpl implements StadiumService {
             return Messenger.builder()
                     .code(200)
                     .message("Stadiums found by keyword: " + keyword)
-                    .data(stadiums)
+                    .data(SearchHits.rank(SearchType.STADIUM, keyword, stadiums, SearchFields::of, StadiumView::from,
+                            searchProperties.topK(), stadiums.size()))
                     .build();
         } catch (Exception e) {
             return Messenger.builder()
@@ -162,6 +203,77 @@ public class StadiumServiceImpl implements StadiumService {
         }
     }
 
+    /**
+     * 검색 인덱스가 고른 관련도 상위 식별자만 조회해 점수 순서대로 반환
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Messenger findByKeyword(String keyword, RankedKeys hits) {
+        List<String> ids = hits.keys();
+        try {
+            Map<String, Stadium> found = stadiumRepository.findByStadiumIdIn(ids).stream()
+                    .collect(Collectors.toMap(Stadium::getStadiumId, Function.identity()));
+            List<Stadium> stadiums = ids.stream()
+                    .map(found::get)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList());
+            return Messenger.builder()
+                    .code(200)
+                    .message("Stadiums found by keyword: " + keyword)
+                    .data(SearchHits.rank(SearchType.STADIUM, keyword, stadiums, SearchFields::of, StadiumView::from,
+                            ids.size(), hits.totalHits()))
+                    .build();
+        } catch (Exception e) {
+            return Messenger.builder()
+                    .code(500)
+                    .message("Error searching stadiums: " + e.getMessage())
+                    .build();
+        }
+    }
+
+    /**
+     * 대량 적재 (JSON 배열 또는 NDJSON)
+     * 요청 본문을 BULK_CHUNK_SIZE 단위로 읽고, 기존 경기장 여부는 청크당 한 번의 IN 조회로 판단한다.
+     * 청크마다 flush/clear 하여 JDBC 배치로 기록하며 전체가 하나의 트랜잭션이다.
+     */
+    @Override
+    public Messenger bulkIngest(InputStream in) {
+        try {
+            long[] counts = new long[2];
+            long received = JsonChunks.forEachChunk(objectMapper, in, StadiumDTO.class, BULK_CHUNK_SIZE, chunk -> {
+                Set<String> existing = stadiumRepository.findAllById(chunk.stream()
+                        .map(StadiumDTO::getStadiumUk)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toList())).stream()
+                        .map(Stadium::getStadiumId)
+                        .collect(Collectors.toSet());
+                for (StadiumDTO dto : chunk) {
+                    Stadium stadium = dtoToEntity(dto);
+                    if (existing.contains(stadium.getStadiumId())) {
+                        entityManager.merge(stadium);
+                        counts[1]++;
+                    } else {
+                        entityManager.persist(stadium);
+                        counts[0]++;
+                    }
+                }
+                entityManager.flush();
+                entityManager.clear();
+            });
+            return Messenger.builder()
+                    .code(200)
+                    .message("Stadiums ingested successfully")
+                    .data(new BulkIngestResult(received, counts[0], counts[1]))
+                    .build();
+        } catch (Exception e) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            return Messenger.builder()
+                    .code(500)
+                    .message("Error ingesting stadiums: " + e.getMessage())
+                    .build();
+        }
+    }
+
     private Stadium dtoToEntity(StadiumDTO dto) {
         Stadium stadium = new Stadium();
         stadium.setStadiumId(dto.getStadiumUk());
@@ -0,0 +1,244 @@
+package com.brobrown.soccerservice.standings;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.brobrown.soccerservice.common.event.DomainChange.ChangeType;
+import com.brobrown.soccerservice.common.event.DomainChangeBatch;
+import com.brobrown.soccerservice.common.limit.JdbcConcurrencyLimiter;
+import com.brobrown.soccerservice.schedule.domain.Schedule;
+import com.brobrown.soccerservice.schedule.domain.ScheduleResult;
+import com.brobrown.soccerservice.schedule.repository.ScheduleRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 시즌별 팀 순위/통계 (메모리 집계)
+ * 시작 시 치러진 경기 결과를 한 번 스트리밍으로 집계하고, 이후에는 커밋된 DomainChangeBatch의 일정 변경마다
+ * 이전 결과(Schedule.loadedResult)를 빼고 새 결과를 더해 증분 반영한다.
+ * Schedule은 @Version으로 같은 행의 동시 수정을 막으므로 이전 결과는 항상 직전 커밋의 결과이고,
+ * 증분끼리는 도착 순서가 바뀌어도 합이 같다.
+ * 집계하는 동안(첫 집계 전 포함) 도착한 변경은 읽은 스냅샷에 들어 있는지 알 수 없으므로 더하지 않고,
+ * 변경된 시즌만 기록해 두었다가 집계 직후 DB에서 다시 읽는다.
+ * 조회는 일정 수와 무관하게 해당 시즌 팀 수에 비례한다.
+ * 대량 적재처럼 일정 타입만 기록된(overflowed) 변경이 오면 백그라운드 스레드 하나에서 전체를 다시 집계한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LeagueStandings {
+
+    private final ScheduleRepository scheduleRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectProvider<JdbcConcurrencyLimiter> jdbcLimiter;
+
+    private final ReentrantLock buildLock = new ReentrantLock();
+    private final ReentrantLock swapLock = new ReentrantLock();
+    private final AtomicBoolean rebuildPending = new AtomicBoolean();
+    private final ExecutorService rebuilder = Executors.newSingleThreadExecutor(
+            Thread.ofVirtual().name("standings-rebuild").factory());
+
+    private volatile Map<Integer, SeasonTable> seasons;
+
+    /** 집계 중(첫 집계 전 포함)에 변경된 시즌 (집계 중이 아니면 null, swapLock으로 보호) */
+    private Set<Integer> changedDuringBuild = new HashSet<>();
+
+    /**
+     * 애플리케이션 시작 완료 시 전체 경기 결과를 집계
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        // 시작 시 집계와 overflowed 변경에 의한 재집계가 겹치지 않게 한 번에 하나만 만든다
+        buildLock.lock();
+        try {
+            long start = System.currentTimeMillis();
+            swapLock.lock();
+            try {
+                if (changedDuringBuild == null) {
+                    changedDuringBuild = new HashSet<>();
+                }
+            } finally {
+                swapLock.unlock();
+            }
+            Map<Integer, SeasonTable> built = new ConcurrentHashMap<>();
+            long count = 0;
+            try (Stream<ScheduleResult> results = scheduleRepository.streamPlayedResults()) {
+                for (ScheduleResult result : (Iterable<ScheduleResult>) results::iterator) {
+                    built.computeIfAbsent(result.season(), season -> new SeasonTable()).apply(result, 1);
+                    count++;
+                }
+            }
+            int reloaded = 0;
+            while (true) {
+                Set<Integer> changed;
+                swapLock.lock();
+                try {
+                    changed = changedDuringBuild;
+                    if (changed.isEmpty()) {
+                        seasons = built;
+                        changedDuringBuild = null;
+                        break;
+                    }
+                    changedDuringBuild = new HashSet<>();
+                } finally {
+                    swapLock.unlock();
+                }
+                changed.forEach(season -> reloadSeason(built, season));
+                reloaded += changed.size();
+            }
+            log.info("순위표 집계 완료 - 시즌: {}, 경기: {}, 집계 중 변경으로 다시 읽은 시즌: {} ({} ms)",
+                    built.size(), count, reloaded, System.currentTimeMillis() - start);
+        } finally {
+            buildLock.unlock();
+        }
+    }
+
+    /**
+     * 트랜잭션 커밋 후 일정 변경을 순위표에 반영
+     */
+    @EventListener
+    public void onDomainChange(DomainChangeBatch batch) {
+        if (!batch.contains(Schedule.class)) {
+            return;
+        }
+        if (batch.isOverflowed(Schedule.class)) {
+            scheduleRebuild();
+            return;
+        }
+        swapLock.lock();
+        try {
+            if (changedDuringBuild != null) {
+                changedDuringBuild.addAll(seasonsOf(batch));
+                if (!buildLock.isLocked()) {
+                    // 집계가 실패해(또는 아직 시작 전이라) 변경이 쌓이기만 하는 상태면 다시 집계
+                    scheduleRebuild();
+                }
+                return;
+            }
+            Map<Integer, SeasonTable> current = seasons;
+            for (Schedule schedule : batch.entities(Schedule.class, ChangeType.UPSERT)) {
+                apply(current, schedule.getLoadedResult(), -1);
+                apply(current, ScheduleResult.of(schedule), 1);
+            }
+            for (Schedule schedule : batch.entities(Schedule.class, ChangeType.DELETE)) {
+                apply(current, schedule.getLoadedResult(), -1);
+            }
+        } finally {
+            swapLock.unlock();
+        }
+    }
+
+    /**
+     * 전체 재집계를 백그라운드에서 예약 (이미 예약돼 있으면 합침)
+     */
+    private void scheduleRebuild() {
+        if (!rebuildPending.compareAndSet(false, true)) {
+            return;
+        }
+        rebuilder.execute(() -> {
+            rebuildPending.set(false);
+            try {
+                // 프록시를 거치지 않아 JdbcConcurrencyLimiter 애스펙트가 보지 못하므로 허가를 직접 받는다
+                JdbcConcurrencyLimiter.runWithPermit(jdbcLimiter,
+                        () -> transactionTemplate.executeWithoutResult(status -> rebuild()));
+            } catch (RuntimeException e) {
+                log.error("순위표 재집계 실패 - 기존 집계 유지", e);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void close() {
+        rebuilder.shutdownNow();
+    }
+
+    /**
+     * 집계가 끝났는지 여부
+     */
+    public boolean isReady() {
+        return seasons != null;
+    }
+
+    /**
+     * 시즌 순위표 (경기가 없는 시즌이면 빈 목록)
+     */
+    public List<TeamStanding> standings(int season) {
+        SeasonTable table = seasons.get(season);
+        if (table == null) {
+            return List.of();
+        }
+        refillForms(season, table);
+        return table.standings();
+    }
+
+    /**
+     * 최근 경기 창에서 경기가 빠져 채울 수 없게 된 팀만 DB에서 최근 경기를 다시 읽음
+     */
+    private void refillForms(int season, SeasonTable table) {
+        Map<String, Long> stale = table.staleForms();
+        if (stale.isEmpty()) {
+            return;
+        }
+        LocalDate from = LocalDate.of(season, 1, 1);
+        LocalDate to = LocalDate.of(season, 12, 31);
+        stale.forEach((teamId, version) -> table.replaceForm(teamId, version,
+                scheduleRepository.findRecentResults(teamId, from, to, Limit.of(SeasonTable.FORM_LENGTH))));
+        log.debug("standings.form.refill season={} teams={}", season, stale.size());
+    }
+
+    /**
+     * 한 시즌을 DB에서 다시 집계해 교체
+     */
+    private void reloadSeason(Map<Integer, SeasonTable> target, int season) {
+        SeasonTable table = new SeasonTable();
+        scheduleRepository.findPlayedResults(LocalDate.of(season, 1, 1), LocalDate.of(season, 12, 31))
+                .forEach(result -> table.apply(result, 1));
+        target.put(season, table);
+    }
+
+    /**
+     * 변경 전후 결과가 속한 시즌
+     */
+    private static Set<Integer> seasonsOf(DomainChangeBatch batch) {
+        Set<Integer> changed = new HashSet<>();
+        for (ChangeType type : ChangeType.values()) {
+            for (Schedule schedule : batch.entities(Schedule.class, type)) {
+                ScheduleResult before = schedule.getLoadedResult();
+                if (before != null && before.scheDate() != null) {
+                    changed.add(before.season());
+                }
+                if (schedule.getScheDate() != null) {
+                    changed.add(schedule.getScheDate().getYear());
+                }
+            }
+        }
+        return changed;
+    }
+
+    private static void apply(Map<Integer, SeasonTable> seasons, ScheduleResult result, int sign) {
+        if (result == null || !result.played()) {
+            return;
+        }
+        seasons.computeIfAbsent(result.season(), season -> new SeasonTable()).apply(result, sign);
+    }
+}
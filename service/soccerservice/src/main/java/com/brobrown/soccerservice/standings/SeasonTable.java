@@ -0,0 +1,222 @@
+package com.brobrown.soccerservice.standings;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.brobrown.soccerservice.schedule.domain.ScheduleResult;
+import com.brobrown.soccerservice.standings.TeamStanding.Record;
+
+/**
+ * 한 시즌의 팀별 누적 기록
+ * 경기 결과를 더하거나(sign = 1) 빼서(sign = -1) 갱신하며, 조회는 팀 수에 비례한다.
+ * 최근 경기(form)는 팀마다 최신 FORM_LENGTH건만 들고 있다가, 그 안의 경기가 빠져 창 밖의 경기로 채워야 하면
+ * stale로 표시해 LeagueStandings가 DB에서 다시 읽어 채우게 한다.
+ * 결과 수정처럼 빠진 자리에 창 안의 경기가 다시 들어오면 stale로 남기지 않는다.
+ */
+final class SeasonTable {
+
+    static final int FORM_LENGTH = 5;
+
+    private static final Comparator<TeamStanding> ORDER = Comparator
+            .comparingInt((TeamStanding standing) -> standing.total().points()).reversed()
+            .thenComparing(Comparator.comparingInt((TeamStanding standing) -> standing.total().goalDifference()).reversed())
+            .thenComparing(Comparator.comparingInt((TeamStanding standing) -> standing.total().goalsFor()).reversed())
+            .thenComparing(TeamStanding::teamId);
+
+    private final Map<String, TeamRecord> teams = new HashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    void apply(ScheduleResult result, int sign) {
+        int home = result.homeScore();
+        int away = result.awayScore();
+        lock.lock();
+        try {
+            team(result.hometeamId()).apply(result, true, home, away, sign);
+            team(result.awayteamId()).apply(result, false, away, home, sign);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 순위 순서대로 정렬한 순위표 (rank는 1부터)
+     */
+    List<TeamStanding> standings() {
+        List<TeamStanding> rows = new ArrayList<>(teams.size());
+        lock.lock();
+        try {
+            teams.forEach((teamId, record) -> {
+                if (record.played() > 0) {
+                    rows.add(record.toStanding(0, teamId));
+                }
+            });
+        } finally {
+            lock.unlock();
+        }
+        rows.sort(ORDER);
+        List<TeamStanding> ranked = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            TeamStanding row = rows.get(i);
+            ranked.add(new TeamStanding(i + 1, row.teamId(), row.total(), row.home(), row.away(), row.form()));
+        }
+        return ranked;
+    }
+
+    /**
+     * 최근 경기를 다시 채워야 하는 팀과 그 시점의 변경 버전
+     */
+    Map<String, Long> staleForms() {
+        Map<String, Long> stale = new HashMap<>();
+        lock.lock();
+        try {
+            teams.forEach((teamId, record) -> {
+                if (record.formStale()) {
+                    stale.put(teamId, record.version);
+                }
+            });
+        } finally {
+            lock.unlock();
+        }
+        return stale;
+    }
+
+    /**
+     * DB에서 읽은 최근 경기로 교체 (읽는 동안 다른 변경이 반영됐으면 무시하고 다음 조회 때 다시 시도)
+     */
+    void replaceForm(String teamId, long version, List<ScheduleResult> recent) {
+        lock.lock();
+        try {
+            TeamRecord record = teams.get(teamId);
+            if (record == null || record.version != version) {
+                return;
+            }
+            record.form.clear();
+            for (ScheduleResult result : recent) {
+                boolean home = teamId.equals(result.hometeamId());
+                record.form.put(new FormKey(result), outcome(
+                        home ? result.homeScore() : result.awayScore(),
+                        home ? result.awayScore() : result.homeScore()));
+            }
+            record.gapFloor = null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private TeamRecord team(String teamId) {
+        return teams.computeIfAbsent(teamId, id -> new TeamRecord());
+    }
+
+    private static char outcome(int goalsFor, int goalsAgainst) {
+        return goalsFor > goalsAgainst ? 'W' : goalsFor == goalsAgainst ? 'D' : 'L';
+    }
+
+    /**
+     * 최근 경기 정렬 키 (날짜, id 오름차순이므로 마지막 항목이 최신)
+     */
+    private record FormKey(LocalDate date, long id) implements Comparable<FormKey> {
+
+        FormKey(ScheduleResult result) {
+            this(result.scheDate(), result.id() == null ? 0 : result.id());
+        }
+
+        @Override
+        public int compareTo(FormKey other) {
+            int byDate = date.compareTo(other.date);
+            return byDate != 0 ? byDate : Long.compare(id, other.id);
+        }
+    }
+
+    /**
+     * 홈/원정 구분 누적 값
+     */
+    private static final class Split {
+        int played;
+        int wins;
+        int draws;
+        int losses;
+        int goalsFor;
+        int goalsAgainst;
+
+        void apply(int scored, int conceded, int sign) {
+            played += sign;
+            goalsFor += sign * scored;
+            goalsAgainst += sign * conceded;
+            if (scored > conceded) {
+                wins += sign;
+            } else if (scored == conceded) {
+                draws += sign;
+            } else {
+                losses += sign;
+            }
+        }
+
+        Record toRecord() {
+            return new Record(played, wins, draws, losses, goalsFor, goalsAgainst);
+        }
+    }
+
+    private static final class TeamRecord {
+        final Split home = new Split();
+        final Split away = new Split();
+        final TreeMap<FormKey, Character> form = new TreeMap<>();
+        /** 창에서 경기가 빠져 빈자리가 생긴 경우, 창 밖의 경기는 모두 이 키보다 오래됨 (빈자리가 없으면 null) */
+        FormKey gapFloor;
+        long version;
+
+        int played() {
+            return home.played + away.played;
+        }
+
+        /**
+         * 창이 보여야 할 경기 수(min(FORM_LENGTH, 경기 수))보다 적게 들고 있어 DB에서 다시 읽어야 하는지 여부
+         */
+        boolean formStale() {
+            return gapFloor != null;
+        }
+
+        void apply(ScheduleResult result, boolean isHome, int scored, int conceded, int sign) {
+            (isHome ? home : away).apply(scored, conceded, sign);
+            version++;
+            FormKey key = new FormKey(result);
+            if (sign > 0) {
+                if (gapFloor == null) {
+                    // 창이 가득 찼고 창보다 오래된 경기면 보관하지 않음
+                    if (form.size() < FORM_LENGTH || key.compareTo(form.firstKey()) > 0) {
+                        form.put(key, outcome(scored, conceded));
+                        if (form.size() > FORM_LENGTH) {
+                            form.pollFirstEntry();
+                        }
+                    }
+                } else if (key.compareTo(gapFloor) >= 0) {
+                    // 창 밖의 어떤 경기보다 최신이므로 빈자리에 넣어도 창이 최신 경기들로 유지된다
+                    form.put(key, outcome(scored, conceded));
+                }
+                // 창 밖의 경기와 순서를 알 수 없는 오래된 경기는 넣지 않고 빈자리로 남겨 DB에서 채운다
+            } else {
+                FormKey oldest = form.isEmpty() ? null : form.firstKey();
+                if (form.remove(key) != null && gapFloor == null) {
+                    gapFloor = oldest;
+                }
+            }
+            if (form.size() >= Math.min(FORM_LENGTH, played())) {
+                gapFloor = null;
+            }
+        }
+
+        TeamStanding toStanding(int rank, String teamId) {
+            Record homeRecord = home.toRecord();
+            Record awayRecord = away.toRecord();
+            StringBuilder recent = new StringBuilder(form.size());
+            form.descendingMap().values().forEach(recent::append);
+            return new TeamStanding(rank, teamId, homeRecord.plus(awayRecord), homeRecord, awayRecord,
+                    recent.toString());
+        }
+    }
+}
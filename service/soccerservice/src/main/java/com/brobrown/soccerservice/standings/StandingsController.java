@@ -0,0 +1,39 @@
+package com.brobrown.soccerservice.standings;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.brobrown.soccerservice.common.Messenger;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/standings")
+public class StandingsController {
+
+    private final StandingsService standingsService;
+
+    /**
+     * 시즌 순위표 (승점, 득실차, 다득점 순 / 홈·원정 기록과 최근 5경기 포함)
+     * 
+     * 예시: GET /standings/2012
+     */
+    @GetMapping("/{season}")
+    public ResponseEntity<Messenger> findBySeason(@PathVariable int season) {
+        return ResponseEntity.ok(standingsService.findBySeason(season));
+    }
+
+    /**
+     * 시즌 내 한 팀의 순위와 통계
+     * 
+     * 예시: GET /standings/2012/K01
+     */
+    @GetMapping("/{season}/{teamId}")
+    public ResponseEntity<Messenger> findByTeam(@PathVariable int season, @PathVariable String teamId) {
+        return ResponseEntity.ok(standingsService.findByTeam(season, teamId));
+    }
+}
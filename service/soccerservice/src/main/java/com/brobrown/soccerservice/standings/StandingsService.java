@@ -0,0 +1,9 @@
+package com.brobrown.soccerservice.standings;
+
+import com.brobrown.soccerservice.common.Messenger;
+
+public interface StandingsService {
+    Messenger findBySeason(int season);
+
+    Messenger findByTeam(int season, String teamId);
+}
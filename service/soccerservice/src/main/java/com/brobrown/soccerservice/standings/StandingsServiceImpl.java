@@ -0,0 +1,68 @@
+package com.brobrown.soccerservice.standings;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.brobrown.soccerservice.common.Messenger;
+
+import io.micrometer.core.annotation.Timed;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+@Timed(value = "soccer.service", histogram = true)
+public class StandingsServiceImpl implements StandingsService {
+
+    private final LeagueStandings leagueStandings;
+
+    /**
+     * 최근 경기 창을 다시 채울 때 DB를 읽으므로 읽기 전용 트랜잭션으로 JdbcConcurrencyLimiter 허가를 받는다.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Messenger findBySeason(int season) {
+        try {
+            if (!leagueStandings.isReady()) {
+                throw new RuntimeException("Standings are not ready yet");
+            }
+            return Messenger.builder()
+                    .code(200)
+                    .message("Standings for season " + season)
+                    .data(leagueStandings.standings(season))
+                    .build();
+        } catch (Exception e) {
+            return Messenger.builder()
+                    .code(500)
+                    .message("Error retrieving standings: " + e.getMessage())
+                    .build();
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Messenger findByTeam(int season, String teamId) {
+        try {
+            if (!leagueStandings.isReady()) {
+                throw new RuntimeException("Standings are not ready yet");
+            }
+            List<TeamStanding> standings = leagueStandings.standings(season);
+            TeamStanding standing = standings.stream()
+                    .filter(row -> row.teamId().equals(teamId))
+                    .findFirst()
+                    .orElseThrow(() -> new RuntimeException("No matches for team " + teamId + " in " + season));
+            return Messenger.builder()
+                    .code(200)
+                    .message("Standing found")
+                    .data(standing)
+                    .build();
+        } catch (Exception e) {
+            return Messenger.builder()
+                    .code(500)
+                    .message("Error retrieving standing: " + e.getMessage())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.brobrown.soccerservice.standings;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * 시즌 순위표 한 줄 (응답 모델)
+ *
+ * @param rank  순위 (승점, 득실차, 다득점, 팀 ID 순)
+ * @param total 홈 + 원정 합계
+ * @param home  홈 경기 기록
+ * @param away  원정 경기 기록
+ * @param form  최근 경기 결과 (W/D/L, 최신이 앞)
+ */
+public record TeamStanding(
+        int rank,
+        String teamId,
+        Record total,
+        Record home,
+        Record away,
+        String form) {
+
+    /**
+     * 경기 기록 합계
+     */
+    public record Record(int played, int wins, int draws, int losses, int goalsFor, int goalsAgainst) {
+
+        @JsonProperty
+        public int goalDifference() {
+            return goalsFor - goalsAgainst;
+        }
+
+        @JsonProperty
+        public int points() {
+            return wins * 3 + draws;
+        }
+
+        Record plus(Record other) {
+            return new Record(played + other.played, wins + other.wins, draws + other.draws,
+                    losses + other.losses, goalsFor + other.goalsFor, goalsAgainst + other.goalsAgainst);
+        }
+    }
+}
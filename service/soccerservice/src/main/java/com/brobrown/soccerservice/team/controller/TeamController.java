@@ -1,7 +1,9 @@
 package com.brobrown.soccerservice.team.controller;
 
+import java.io.InputStream;
 import java.util.List;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -10,6 +12,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.brobrown.soccerservice.common.Messenger;
@@ -35,6 +38,14 @@ public class TeamController {
         return ResponseEntity.ok(teamService.saveAll(teamDTOs));
     }
 
+    /**
+     * 대량 적재 (JSON 배열 또는 NDJSON 본문을 스트리밍으로 읽어 배치 insert)
+     */
+    @PostMapping(value = "/bulk", consumes = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE })
+    public ResponseEntity<Messenger> bulkIngest(InputStream body) {
+        return ResponseEntity.ok(teamService.bulkIngest(body));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<Messenger> update(@PathVariable String id, @RequestBody TeamDTO teamDTO) {
         return ResponseEntity.ok(teamService.update(teamDTO));
@@ -50,8 +61,15 @@ public class TeamController {
         return ResponseEntity.ok(teamService.findById(id));
     }
 
+    /**
+     * 키셋 페이지 목록 조회
+     * 
+     * 예시: GET /team/all?size=50 → 응답의 nextCursor를 다음 요청의 cursor로 전달
+     */
     @GetMapping("/all")
-    public ResponseEntity<Messenger> findAll() {
-        return ResponseEntity.ok(teamService.findAll());
+    public ResponseEntity<Messenger> findAll(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
+        return ResponseEntity.ok(teamService.findAll(cursor, size));
     }
 }
@@ -2,10 +2,20 @@ package com.brobrown.soccerservice.team.domain;
 
 import java.util.List;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import com.brobrown.soccerservice.common.event.DomainChangeListener;
 import com.brobrown.soccerservice.player.Player;
 import com.brobrown.soccerservice.stadium.domain.Stadium;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToMany;
@@ -13,8 +23,16 @@ import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
 import lombok.Data;
 
+/**
+ * 팀 (참조 데이터)
+ * 변경이 드물고 선수/일정 쓰기와 검색 결과에서 반복 조회되므로 2차 캐시(team 리전)에 둔다.
+ * players 컬렉션은 원소(Player)가 캐시 대상이 아니어서 캐시하지 않는다.
+ */
 @Entity
+@EntityListeners(DomainChangeListener.class)
 @Table(name = "team")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "team")
 @Data
 public class Team {
 
@@ -33,11 +51,13 @@ public class Team {
     private String homepage;
     private String owner;
 
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "stadium_id")
+    @JsonIgnoreProperties({ "team", "schedules" })
     private Stadium stadium;
 
     @OneToMany(mappedBy = "team")
+    @JsonIgnore
     private List<Player> players;
 
 }
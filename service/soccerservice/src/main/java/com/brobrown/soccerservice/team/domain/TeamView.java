@@ -0,0 +1,45 @@
+package com.brobrown.soccerservice.team.domain;
+
+import com.brobrown.soccerservice.stadium.domain.Stadium;
+
+/**
+ * 팀 조회 응답 모델
+ * 엔티티 대신 응답에 필요한 값만 담아 Hibernate 프록시/양방향 연관관계를 직렬화하지 않는다.
+ */
+public record TeamView(
+        String teamId,
+        String regionName,
+        String teamName,
+        String eTeamName,
+        String origYyyy,
+        String zipCode1,
+        String zipCode2,
+        String address,
+        String ddd,
+        String tel,
+        String fax,
+        String homepage,
+        String owner,
+        String stadiumId,
+        String stadiumName) {
+
+    public static TeamView from(Team team) {
+        Stadium stadium = team.getStadium();
+        return new TeamView(
+                team.getTeamId(),
+                team.getRegionName(),
+                team.getTeamName(),
+                team.getETeamName(),
+                team.getOrigYyyy(),
+                team.getZipCode1(),
+                team.getZipCode2(),
+                team.getAddress(),
+                team.getDdd(),
+                team.getTel(),
+                team.getFax(),
+                team.getHomepage(),
+                team.getOwner(),
+                stadium != null ? stadium.getStadiumId() : null,
+                stadium != null ? stadium.getStadiumName() : null);
+    }
+}
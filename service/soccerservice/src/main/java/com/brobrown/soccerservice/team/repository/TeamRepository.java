@@ -1,18 +1,52 @@
 package com.brobrown.soccerservice.team.repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.brobrown.soccerservice.team.domain.Team;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface TeamRepository extends JpaRepository<Team, String> {
     
+    /**
+     * 키워드 LIKE 검색 (쿼리 캐시 사용, team/stadium 테이블 변경 시 Hibernate가 결과를 무효화)
+     * 캐시 적중 시 팀은 team 리전, 경기장은 stadium 리전에서 ID로 조립한다.
+     */
+    @EntityGraph(attributePaths = "stadium")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "reference-queries") })
     @Query("SELECT t FROM Team t WHERE t.teamName LIKE %:keyword% OR t.eTeamName LIKE %:keyword% OR t.regionName LIKE %:keyword%")
     List<Team> findByKeyword(@Param("keyword") String keyword);
-}
 
+    /**
+     * 키셋 페이지 조회 (teamId 오름차순, teamId 초과)
+     */
+    @EntityGraph(attributePaths = "stadium")
+    List<Team> findByTeamIdGreaterThanOrderByTeamIdAsc(String teamId, Limit limit);
+
+    @EntityGraph(attributePaths = "stadium")
+    List<Team> findAllByOrderByTeamIdAsc(Limit limit);
+
+    /**
+     * 검색 인덱스 결과 조회 (경기장 함께 조회)
+     */
+    @EntityGraph(attributePaths = "stadium")
+    List<Team> findByTeamIdIn(Collection<String> teamIds);
+
+    @Override
+    @EntityGraph(attributePaths = "stadium")
+    Optional<Team> findById(String teamId);
+}
@@ -1,8 +1,10 @@
 package com.brobrown.soccerservice.team.service;
 
+import java.io.InputStream;
 import java.util.List;
 
 import com.brobrown.soccerservice.common.Messenger;
+import com.brobrown.soccerservice.search.RankedKeys;
 import com.brobrown.soccerservice.team.domain.TeamDTO;
 
 public interface TeamService {
@@ -14,11 +16,15 @@ public interface TeamService {
 
     Messenger findById(String id);
 
-    Messenger findAll();
+    Messenger findAll(String cursor, Integer size);
 
     Messenger saveAll(List<TeamDTO> teamDTOs);
 
     Messenger findByKeyword(String keyword);
 
+    Messenger findByKeyword(String keyword, RankedKeys hits);
+
+    Messenger bulkIngest(InputStream in);
+
 }
 
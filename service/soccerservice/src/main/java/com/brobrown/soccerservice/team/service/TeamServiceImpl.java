@@ -1,27 +1,59 @@
 package com.brobrown.soccerservice.team.service;
 
+import java.io.InputStream;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 
+import com.brobrown.soccerservice.common.BulkIngestResult;
+import com.brobrown.soccerservice.common.CursorPage;
+import com.brobrown.soccerservice.common.CursorPage.InvalidCursorException;
+import com.brobrown.soccerservice.common.JsonChunks;
 import com.brobrown.soccerservice.common.Messenger;
+import com.brobrown.soccerservice.config.PaginationProperties;
+import com.brobrown.soccerservice.config.SearchProperties;
+import com.brobrown.soccerservice.search.RankedKeys;
+import com.brobrown.soccerservice.search.SearchFields;
+import com.brobrown.soccerservice.search.SearchHits;
+import com.brobrown.soccerservice.search.SearchType;
 import com.brobrown.soccerservice.stadium.domain.Stadium;
 import com.brobrown.soccerservice.stadium.repository.StadiumRepository;
 import com.brobrown.soccerservice.team.domain.Team;
 import com.brobrown.soccerservice.team.domain.TeamDTO;
+import com.brobrown.soccerservice.team.domain.TeamView;
 import com.brobrown.soccerservice.team.repository.TeamRepository;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.annotation.Timed;
+
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
+@Timed(value = "soccer.service", histogram = true)
 public class TeamServiceImpl implements TeamService {
 
+    /** 대량 적재 시 한 번에 flush/clear 하는 행 수 (hibernate.jdbc.batch_size와 맞춤) */
+    private static final int BULK_CHUNK_SIZE = 500;
+
     private final TeamRepository teamRepository;
     private final StadiumRepository stadiumRepository;
+    private final PaginationProperties paginationProperties;
+    private final SearchProperties searchProperties;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
 
     @Override
     public Messenger save(TeamDTO teamDTO) {
@@ -32,7 +64,7 @@ public class TeamServiceImpl implements TeamService {
             return Messenger.builder()
                     .code(200)
                     .message("Team saved successfully")
-                    .data(saved)
+                    .data(TeamView.from(saved))
                     .build();
         } catch (Exception e) {
             return Messenger.builder()
@@ -57,7 +89,7 @@ public class TeamServiceImpl implements TeamService {
             return Messenger.builder()
                     .code(200)
                     .message("Team updated successfully")
-                    .data(updated)
+                    .data(TeamView.from(updated))
                     .build();
         } catch (Exception e) {
             return Messenger.builder()
@@ -98,7 +130,7 @@ public class TeamServiceImpl implements TeamService {
             return Messenger.builder()
                     .code(200)
                     .message("Team found")
-                    .data(team)
+                    .data(TeamView.from(team))
                     .build();
         } catch (Exception e) {
             return Messenger.builder()
@@ -110,13 +142,22 @@ public class TeamServiceImpl implements TeamService {
 
     @Override
     @Transactional(readOnly = true)
-    public Messenger findAll() {
+    public Messenger findAll(String cursor, Integer size) {
         try {
-            List<Team> teams = teamRepository.findAll();
+            int limit = paginationProperties.resolve(size);
+            String after = CursorPage.decode(cursor);
+            List<Team> teams = after == null
+                    ? teamRepository.findAllByOrderByTeamIdAsc(Limit.of(limit + 1))
+                    : teamRepository.findByTeamIdGreaterThanOrderByTeamIdAsc(after, Limit.of(limit + 1));
             return Messenger.builder()
                     .code(200)
                     .message("Teams retrieved successfully")
-                    .data(teams)
+                    .data(CursorPage.of(teams, limit, Team::getTeamId).map(TeamView::from))
+                    .build();
+        } catch (InvalidCursorException e) {
+            return Messenger.builder()
+                    .code(400)
+                    .message(e.getMessage())
                     .build();
         } catch (Exception e) {
             return Messenger.builder()
@@ -137,7 +178,7 @@ public class TeamServiceImpl implements TeamService {
             return Messenger.builder()
                     .code(200)
                     .message("Teams saved successfully")
-                    .data(saved)
+                    .data(saved.stream().map(TeamView::from).collect(Collectors.toList()))
                     .build();
         } catch (Exception e) {
             return Messenger.builder()
@@ -155,7 +196,8 @@ public class TeamServiceImpl implements TeamService {
             return Messenger.builder()
                     .code(200)
                     .message("Teams found by keyword: " + keyword)
-                    .data(teams)
+                    .data(SearchHits.rank(SearchType.TEAM, keyword, teams, SearchFields::of, TeamView::from,
+                            searchProperties.topK(), teams.size()))
                     .build();
         } catch (Exception e) {
             return Messenger.builder()
@@ -165,7 +207,93 @@ public class TeamServiceImpl implements TeamService {
         }
     }
 
+    /**
+     * 검색 인덱스가 고른 관련도 상위 식별자만 조회해 점수 순서대로 반환
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Messenger findByKeyword(String keyword, RankedKeys hits) {
+        List<String> ids = hits.keys();
+        try {
+            Map<String, Team> found = teamRepository.findByTeamIdIn(ids).stream()
+                    .collect(Collectors.toMap(Team::getTeamId, Function.identity()));
+            List<Team> teams = ids.stream()
+                    .map(found::get)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList());
+            return Messenger.builder()
+                    .code(200)
+                    .message("Teams found by keyword: " + keyword)
+                    .data(SearchHits.rank(SearchType.TEAM, keyword, teams, SearchFields::of, TeamView::from,
+                            ids.size(), hits.totalHits()))
+                    .build();
+        } catch (Exception e) {
+            return Messenger.builder()
+                    .code(500)
+                    .message("Error searching teams: " + e.getMessage())
+                    .build();
+        }
+    }
+
+    /**
+     * 대량 적재 (JSON 배열 또는 NDJSON)
+     * 요청 본문을 BULK_CHUNK_SIZE 단위로 읽으면서 경기장 FK는 시작 시 한 번 조회한 ID 집합으로 확인하고
+     * getReference로 연결해 행마다 SELECT 하지 않는다. 기존 팀 여부도 청크당 한 번의 IN 조회로 판단하며,
+     * 청크마다 flush/clear 하여 JDBC 배치로 기록한다. 전체가 하나의 트랜잭션이다.
+     */
+    @Override
+    public Messenger bulkIngest(InputStream in) {
+        try {
+            Set<String> stadiumIds = new HashSet<>(stadiumRepository.findAllIds());
+            Function<String, Stadium> stadiumLookup = stadiumId -> stadiumIds.contains(stadiumId)
+                    ? entityManager.getReference(Stadium.class, stadiumId)
+                    : null;
+            long[] counts = new long[2];
+            long received = JsonChunks.forEachChunk(objectMapper, in, TeamDTO.class, BULK_CHUNK_SIZE, chunk -> {
+                Set<String> existing = teamRepository.findAllById(chunk.stream()
+                        .map(TeamDTO::getTeamId)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toList())).stream()
+                        .map(Team::getTeamId)
+                        .collect(Collectors.toSet());
+                for (TeamDTO dto : chunk) {
+                    Team team = dtoToEntity(dto, stadiumLookup);
+                    if (existing.contains(team.getTeamId())) {
+                        entityManager.merge(team);
+                        counts[1]++;
+                    } else {
+                        entityManager.persist(team);
+                        counts[0]++;
+                    }
+                }
+                entityManager.flush();
+                entityManager.clear();
+            });
+            return Messenger.builder()
+                    .code(200)
+                    .message("Teams ingested successfully")
+                    .data(new BulkIngestResult(received, counts[0], counts[1]))
+                    .build();
+        } catch (Exception e) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            return Messenger.builder()
+                    .code(500)
+                    .message("Error ingesting teams: " + e.getMessage())
+                    .build();
+        }
+    }
+
+    /**
+     * 경기장은 EntityManager.find로 찾아 2차 캐시(stadium 리전)에 있으면 SELECT 없이 연결한다.
+     */
     private Team dtoToEntity(TeamDTO dto) {
+        return dtoToEntity(dto, stadiumId -> entityManager.find(Stadium.class, stadiumId));
+    }
+
+    /**
+     * 매핑 로직 (soccerbenchmark 모듈에서 같은 패키지로 직접 측정하므로 package-private)
+     */
+    Team dtoToEntity(TeamDTO dto, Function<String, Stadium> stadiumLookup) {
         Team team = new Team();
         team.setTeamId(dto.getTeamId());
         team.setRegionName(dto.getRegionName());
@@ -183,15 +311,13 @@ public class TeamServiceImpl implements TeamService {
         
         String stadiumId = dto.getStadiumId();
         if (stadiumId != null && !stadiumId.isEmpty()) {
-            Stadium stadium = stadiumRepository.findById(stadiumId)
-                    .orElse(null);
-            team.setStadium(stadium);
+            team.setStadium(stadiumLookup.apply(stadiumId));
         }
         
         return team;
     }
 
-    private void updateEntityFromDto(Team team, TeamDTO dto) {
+    void updateEntityFromDto(Team team, TeamDTO dto) {
         if (dto.getRegionName() != null) team.setRegionName(dto.getRegionName());
         if (dto.getTeamName() != null) team.setTeamName(dto.getTeamName());
         if (dto.getETeamName() != null) team.setETeamName(dto.getETeamName());
@@ -207,9 +333,7 @@ public class TeamServiceImpl implements TeamService {
         
         String stadiumId = dto.getStadiumId();
         if (stadiumId != null && !stadiumId.isEmpty()) {
-            Stadium stadium = stadiumRepository.findById(stadiumId)
-                    .orElse(null);
-            team.setStadium(stadium);
+            team.setStadium(entityManager.find(Stadium.class, stadiumId));
         }
     }
 }
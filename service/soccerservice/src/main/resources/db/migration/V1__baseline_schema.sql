@@ -0,0 +1,57 @@
+-- 기존 ddl-auto: update 가 만들던 스키마 (이미 테이블이 있는 DB는 baseline-on-migrate 로 이 버전을 건너뜀)
+
+CREATE TABLE IF NOT EXISTS stadium (
+    stadium_id   VARCHAR(255) PRIMARY KEY,
+    stadium_name VARCHAR(255),
+    hometeam_id  VARCHAR(255),
+    seat_count   INTEGER,
+    address      VARCHAR(255),
+    ddd          VARCHAR(255),
+    tel          VARCHAR(255)
+);
+
+CREATE TABLE IF NOT EXISTS team (
+    team_id     VARCHAR(255) PRIMARY KEY,
+    region_name VARCHAR(255),
+    team_name   VARCHAR(255),
+    e_team_name VARCHAR(255),
+    orig_yyyy   VARCHAR(255),
+    zip_code1   VARCHAR(255),
+    zip_code2   VARCHAR(255),
+    address     VARCHAR(255),
+    ddd         VARCHAR(255),
+    tel         VARCHAR(255),
+    fax         VARCHAR(255),
+    homepage    VARCHAR(255),
+    owner       VARCHAR(255),
+    stadium_id  VARCHAR(255) UNIQUE REFERENCES stadium (stadium_id)
+);
+
+CREATE TABLE IF NOT EXISTS player (
+    player_id     BIGINT PRIMARY KEY,
+    player_name   VARCHAR(255),
+    e_player_name VARCHAR(255),
+    nickname      VARCHAR(255),
+    join_yyyy     VARCHAR(255),
+    position      VARCHAR(255),
+    back_no       VARCHAR(255),
+    nation        VARCHAR(255),
+    birth_date    VARCHAR(255),
+    solar         VARCHAR(255),
+    height        VARCHAR(255),
+    weight        VARCHAR(255),
+    team_id       VARCHAR(255) REFERENCES team (team_id)
+);
+
+CREATE SEQUENCE IF NOT EXISTS schedule_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS schedule (
+    id          BIGINT PRIMARY KEY,
+    sche_date   VARCHAR(255),
+    stadium_id  VARCHAR(255) REFERENCES stadium (stadium_id),
+    gubun       VARCHAR(255),
+    hometeam_id VARCHAR(255),
+    awayteam_id VARCHAR(255),
+    home_score  INTEGER,
+    away_score  INTEGER
+);
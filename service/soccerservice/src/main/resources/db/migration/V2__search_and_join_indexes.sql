@@ -0,0 +1,29 @@
+-- FK/필터 컬럼 B-tree 인덱스
+-- (team.stadium_id 는 OneToOne UNIQUE 제약의 인덱스가 이미 있으므로 제외)
+CREATE INDEX IF NOT EXISTS idx_player_team_id ON player (team_id);
+CREATE INDEX IF NOT EXISTS idx_player_position ON player (position);
+CREATE INDEX IF NOT EXISTS idx_schedule_stadium_id ON schedule (stadium_id);
+CREATE INDEX IF NOT EXISTS idx_schedule_hometeam_id ON schedule (hometeam_id);
+CREATE INDEX IF NOT EXISTS idx_schedule_awayteam_id ON schedule (awayteam_id);
+CREATE INDEX IF NOT EXISTS idx_schedule_sche_date ON schedule (sche_date);
+
+-- findByKeyword 의 LIKE '%keyword%' 용 트라이그램 GIN 인덱스
+-- (트라이그램은 3글자 이상이어야 추출되므로 1~2글자 검색어는 여전히 전체 스캔)
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_team_team_name_trgm ON team USING gin (team_name gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_team_e_team_name_trgm ON team USING gin (e_team_name gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_team_region_name_trgm ON team USING gin (region_name gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_stadium_stadium_name_trgm ON stadium USING gin (stadium_name gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_stadium_address_trgm ON stadium USING gin (address gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_player_player_name_trgm ON player USING gin (player_name gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_player_e_player_name_trgm ON player USING gin (e_player_name gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_player_nickname_trgm ON player USING gin (nickname gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_schedule_sche_date_trgm ON schedule USING gin (sche_date gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_schedule_hometeam_id_trgm ON schedule USING gin (hometeam_id gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_schedule_awayteam_id_trgm ON schedule USING gin (awayteam_id gin_trgm_ops);
+
+ANALYZE stadium;
+ANALYZE team;
+ANALYZE player;
+ANALYZE schedule;
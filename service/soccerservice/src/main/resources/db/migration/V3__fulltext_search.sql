@@ -0,0 +1,37 @@
+-- 데이터베이스 전문 검색 모드(soccer.search.mode: fulltext)용 tsvector 컬럼
+-- PostgreSQL에는 한국어 사전이 없으므로 단어마다 2글자 조각(마지막 글자는 1글자)을 만들어
+-- 'simple' 설정으로 색인한다. 검색어도 같은 방식으로 조각내므로 부분 문자열 검색이 가능하다.
+
+CREATE OR REPLACE FUNCTION soccer_bigrams(input text) RETURNS text
+    LANGUAGE sql IMMUTABLE PARALLEL SAFE AS $$
+    SELECT coalesce(string_agg(substr(word, i, 2), ' '), '')
+    FROM regexp_split_to_table(lower(coalesce(input, '')), '\s+') AS word,
+         generate_series(1, char_length(word)) AS i
+    WHERE word <> ''
+$$;
+
+ALTER TABLE player ADD COLUMN IF NOT EXISTS search_tsv tsvector
+    GENERATED ALWAYS AS (to_tsvector('simple', soccer_bigrams(
+        coalesce(player_name, '') || ' ' || coalesce(e_player_name, '') || ' ' || coalesce(nickname, '')))) STORED;
+
+ALTER TABLE team ADD COLUMN IF NOT EXISTS search_tsv tsvector
+    GENERATED ALWAYS AS (to_tsvector('simple', soccer_bigrams(
+        coalesce(team_name, '') || ' ' || coalesce(e_team_name, '') || ' ' || coalesce(region_name, '')))) STORED;
+
+ALTER TABLE stadium ADD COLUMN IF NOT EXISTS search_tsv tsvector
+    GENERATED ALWAYS AS (to_tsvector('simple', soccer_bigrams(
+        coalesce(stadium_name, '') || ' ' || coalesce(address, '')))) STORED;
+
+ALTER TABLE schedule ADD COLUMN IF NOT EXISTS search_tsv tsvector
+    GENERATED ALWAYS AS (to_tsvector('simple', soccer_bigrams(
+        coalesce(sche_date, '') || ' ' || coalesce(hometeam_id, '') || ' ' || coalesce(awayteam_id, '')))) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_player_search_tsv ON player USING gin (search_tsv);
+CREATE INDEX IF NOT EXISTS idx_team_search_tsv ON team USING gin (search_tsv);
+CREATE INDEX IF NOT EXISTS idx_stadium_search_tsv ON stadium USING gin (search_tsv);
+CREATE INDEX IF NOT EXISTS idx_schedule_search_tsv ON schedule USING gin (search_tsv);
+
+ANALYZE stadium;
+ANALYZE team;
+ANALYZE player;
+ANALYZE schedule;
@@ -0,0 +1,55 @@
+-- schedule.sche_date 를 문자열(yyyyMMdd)에서 DATE 로 변환
+-- 변환은 ALTER TABLE ... USING 한 번으로 테이블을 한 차례 순차 재작성하며(행을 애플리케이션으로 읽어오지 않음),
+-- 같은 문장에서 search_tsv 생성 컬럼도 다시 만들어 재작성이 두 번 일어나지 않게 한다.
+
+-- yyyyMMdd 또는 yyyy-MM-dd 만 날짜로 인정하고, 존재하지 않는 날짜(20120231 등)는 예외 없이 NULL
+CREATE OR REPLACE FUNCTION soccer_parse_date(value text) RETURNS date
+    LANGUAGE sql IMMUTABLE PARALLEL SAFE AS $$
+    SELECT CASE
+        WHEN digits IS NULL THEN NULL
+        WHEN substr(digits, 1, 4)::int = 0 OR substr(digits, 5, 2)::int NOT BETWEEN 1 AND 12 THEN NULL
+        WHEN substr(digits, 7, 2)::int BETWEEN 1 AND extract(day FROM make_date(substr(digits, 1, 4)::int,
+                substr(digits, 5, 2)::int, 1) + interval '1 month - 1 day')::int
+            THEN make_date(substr(digits, 1, 4)::int, substr(digits, 5, 2)::int, substr(digits, 7, 2)::int)
+    END
+    FROM (SELECT CASE
+            WHEN value ~ '^\d{8}$' THEN value
+            WHEN value ~ '^\d{4}-\d{2}-\d{2}$' THEN replace(value, '-', '')
+        END AS digits) parsed
+$$;
+
+-- 키워드 검색(LIKE '%201203%')과 전문 검색 색인에 쓰는 yyyyMMdd 표현 (to_char는 IMMUTABLE이 아니라 직접 조합)
+CREATE OR REPLACE FUNCTION soccer_compact_date(value date) RETURNS text
+    LANGUAGE sql IMMUTABLE PARALLEL SAFE AS $$
+    SELECT lpad(extract(year FROM value)::int::text, 4, '0')
+        || lpad(extract(month FROM value)::int::text, 2, '0')
+        || lpad(extract(day FROM value)::int::text, 2, '0')
+$$;
+
+-- 날짜로 해석할 수 없는 기존 값은 버리지 않고 따로 보관
+CREATE TABLE IF NOT EXISTS schedule_sche_date_rejects AS
+    SELECT id, sche_date FROM schedule
+    WHERE sche_date IS NOT NULL AND soccer_parse_date(sche_date) IS NULL;
+
+-- sche_date 에 의존하는 문자열 전용 인덱스/생성 컬럼 정리 (DROP COLUMN 은 재작성 없이 메타데이터만 변경)
+DROP INDEX IF EXISTS idx_schedule_sche_date_trgm;
+ALTER TABLE schedule DROP COLUMN IF EXISTS search_tsv;
+
+ALTER TABLE schedule
+    ALTER COLUMN sche_date TYPE date USING soccer_parse_date(sche_date),
+    ADD COLUMN search_tsv tsvector
+        GENERATED ALWAYS AS (to_tsvector('simple', soccer_bigrams(
+            coalesce(soccer_compact_date(sche_date), '') || ' ' || coalesce(hometeam_id, '') || ' '
+            || coalesce(awayteam_id, '')))) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_schedule_search_tsv ON schedule USING gin (search_tsv);
+
+-- 기간 조회용 복합 인덱스 (경기장/팀 조건 + 날짜 범위), 앞 컬럼이 같은 단일 컬럼 인덱스는 대체
+DROP INDEX IF EXISTS idx_schedule_stadium_id;
+DROP INDEX IF EXISTS idx_schedule_hometeam_id;
+DROP INDEX IF EXISTS idx_schedule_awayteam_id;
+CREATE INDEX IF NOT EXISTS idx_schedule_stadium_date ON schedule (stadium_id, sche_date);
+CREATE INDEX IF NOT EXISTS idx_schedule_hometeam_date ON schedule (hometeam_id, sche_date);
+CREATE INDEX IF NOT EXISTS idx_schedule_awayteam_date ON schedule (awayteam_id, sche_date);
+
+ANALYZE schedule;
@@ -0,0 +1,9 @@
+-- schedule.id 는 IDENTITY 에서 pooled 시퀀스(schedule_seq, allocationSize 50)로 바뀌었다.
+-- 이전 버전의 baseline-version: 1 설정으로 V1 을 건너뛴 DB에는 시퀀스가 없으므로 여기서 만들고,
+-- 기존 데이터의 최대 id 보다 시퀀스가 뒤처져 있으면 맞춘다 (이미 앞서 있으면 그대로 둔다).
+
+CREATE SEQUENCE IF NOT EXISTS schedule_seq START WITH 1 INCREMENT BY 50;
+
+SELECT setval('schedule_seq', GREATEST(
+        (SELECT COALESCE(MAX(id), 1) FROM schedule),
+        (SELECT last_value FROM schedule_seq)));
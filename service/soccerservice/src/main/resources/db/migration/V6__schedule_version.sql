@@ -0,0 +1,4 @@
+-- schedule 낙관적 잠금(@Version) 컬럼
+-- 같은 일정을 동시에 수정한 두 트랜잭션이 모두 커밋되면 순위표가 같은 이전 결과를 두 번 빼므로 나중 커밋을 실패시킨다.
+
+ALTER TABLE schedule ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,7 @@
+-- V4에서 sche_date 를 DATE 로 바꾸며 지운 문자열 트라이그램 인덱스를 yyyyMMdd 식 인덱스로 대체
+-- ScheduleRepository.findByKeyword 는 같은 식(soccer_compact_date(sche_date))으로 LIKE 하므로
+-- hometeam_id/awayteam_id 트라이그램 인덱스와 함께 BitmapOr 로 처리된다 (없으면 OR 전체가 순차 스캔).
+CREATE INDEX IF NOT EXISTS idx_schedule_compact_date_trgm
+    ON schedule USING gin (soccer_compact_date(sche_date) gin_trgm_ops);
+
+ANALYZE schedule;
@@ -0,0 +1,178 @@
+package com.brobrown.soccerservice;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.brobrown.soccerservice.player.Player;
+import com.brobrown.soccerservice.player.PlayerRepository;
+import com.brobrown.soccerservice.schedule.domain.Schedule;
+import com.brobrown.soccerservice.schedule.repository.ScheduleRepository;
+import com.brobrown.soccerservice.stadium.domain.Stadium;
+import com.brobrown.soccerservice.stadium.repository.StadiumRepository;
+import com.brobrown.soccerservice.team.domain.Team;
+import com.brobrown.soccerservice.team.repository.TeamRepository;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * 목록/검색/단건 엔드포인트의 SQL 실행 횟수가 데이터 건수와 무관한지 확인 (N+1 회귀 방지)
+ * 직렬화된 응답 캐시가 두 번째 요청을 DB 없이 처리하면 쿼리 수가 가려지므로 끄고 잰다.
+ */
+@SpringBootTest(properties = "soccer.response-cache.enabled=false")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(SqlStatementCounter.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class FetchPlanQueryCountTests {
+
+	/** 행 수보다 충분히 작아야 N+1이 드러난다 */
+	private static final int ROWS = 20;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private StadiumRepository stadiumRepository;
+
+	@Autowired
+	private TeamRepository teamRepository;
+
+	@Autowired
+	private PlayerRepository playerRepository;
+
+	@Autowired
+	private ScheduleRepository scheduleRepository;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@BeforeAll
+	void seed() {
+		List<Stadium> stadiums = new ArrayList<>();
+		for (int i = 0; i < ROWS; i++) {
+			Stadium stadium = new Stadium();
+			stadium.setStadiumId(String.format("S%02d", i));
+			stadium.setStadiumName("경기장" + i);
+			stadium.setAddress("서울시 " + i);
+			stadium.setHometeamId(String.format("T%02d", i));
+			stadiums.add(stadium);
+		}
+		stadiums = stadiumRepository.saveAll(stadiums);
+
+		List<Team> teams = new ArrayList<>();
+		for (int i = 0; i < ROWS; i++) {
+			Team team = new Team();
+			team.setTeamId(String.format("T%02d", i));
+			team.setTeamName("팀" + i);
+			team.setETeamName("TEAM" + i);
+			team.setRegionName("서울");
+			team.setStadium(stadiums.get(i));
+			teams.add(team);
+		}
+		teams = teamRepository.saveAll(teams);
+
+		List<Player> players = new ArrayList<>();
+		List<Schedule> schedules = new ArrayList<>();
+		for (int i = 0; i < ROWS; i++) {
+			Player player = new Player();
+			player.setPlayerId((long) i);
+			player.setPlayerName("선수" + i);
+			player.setPosition("FW");
+			player.setTeam(teams.get(i));
+			players.add(player);
+
+			Schedule schedule = new Schedule();
+			schedule.setScheDate(LocalDate.of(2012, 3, i + 1));
+			schedule.setStadium(stadiums.get(i));
+			schedule.setHometeamId(teams.get(i).getTeamId());
+			schedule.setAwayteamId(teams.get((i + 1) % ROWS).getTeamId());
+			schedule.setHomeScore(i % 3);
+			schedule.setAwayScore(1);
+			schedules.add(schedule);
+		}
+		playerRepository.saveAll(players);
+		scheduleRepository.saveAll(schedules);
+	}
+
+	/**
+	 * 엔드포인트별 허용하는 최대 SQL 수 (목록 + count 쿼리 정도)
+	 * type=all은 네 분기가 각자 식별자로 한 번씩 조회하므로 4까지 허용한다.
+	 */
+	@ParameterizedTest
+	@CsvSource(delimiter = '|', value = {
+			"/team/all                                          | 3",
+			"/stadium/all                                       | 3",
+			"/schedule/all                                      | 3",
+			"/schedule/range?from=20120301&to=20120331          | 3",
+			"/schedule/range?from=20120305&teamId=T01&gubun=Y   | 3",
+			"/player/all                                        | 3",
+			"/player/filter?position=FW                         | 3",
+			"/team/T01                                          | 3",
+			"/stadium/S01                                       | 3",
+			"/search/findByKeyword?type=team&keyword=팀         | 3",
+			"/search/findByKeyword?type=stadium&keyword=경기장  | 3",
+			"/search/findByKeyword?type=schedule&keyword=201203 | 3",
+			"/search/findByKeyword?type=player&keyword=선수     | 3",
+			"/search/findByKeyword?type=all&keyword=1           | 4",
+			"/search/suggest?keyword=서                         | 3",
+			"/standings/2012                                    | 3",
+			"/standings/2012/T01                                | 3"
+	})
+	void endpointQueryCountDoesNotGrowWithRows(String url, int maxStatements) throws Exception {
+		SqlStatementCounter.reset();
+
+		mockMvc.perform(get(url))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.code").value(200));
+
+		assertThat(SqlStatementCounter.count())
+				.as("SQL statements for %s", url)
+				.isLessThanOrEqualTo(maxStatements);
+	}
+
+	/**
+	 * 2차 캐시/쿼리 캐시가 채워진 뒤(두 번째 트랜잭션)에도 캐시에서 엔티티를 조립하느라 행마다 SELECT 하지 않는지 확인
+	 */
+	@Test
+	void warmCachesDoNotAddStatementsPerRow() {
+		for (int round = 1; round <= 2; round++) {
+			SqlStatementCounter.reset();
+			transactionTemplate.executeWithoutResult(status -> {
+				stadiumRepository.findByKeyword("경기장").forEach(stadium -> stadium.getTeam().getTeamName());
+				teamRepository.findByKeyword("팀").forEach(team -> team.getStadium().getStadiumName());
+			});
+			assertThat(SqlStatementCounter.count())
+					.as("keyword queries, round %d", round)
+					.isLessThanOrEqualTo(2);
+		}
+
+		SqlStatementCounter.reset();
+		transactionTemplate.executeWithoutResult(status -> {
+			entityManager.find(Team.class, "T01");
+			entityManager.find(Stadium.class, "S01").getTeam().getTeamName();
+		});
+		assertThat(SqlStatementCounter.count()).as("team/stadium lookup from second-level cache").isZero();
+	}
+}
@@ -0,0 +1,40 @@
+package com.brobrown.soccerservice;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.TestConfiguration;
+
+/**
+ * Hibernate가 실행한 SQL 문 개수 집계
+ * 엔드포인트별 쿼리 수를 확인해 N+1 회귀를 잡는 데 사용하며, 필요한 테스트에서 @Import로 등록한다.
+ * 통합 검색(type=all)은 분기를 가상 스레드에서 실행하므로 스레드별이 아닌 전역으로 센다
+ * (그래서 집계하는 동안 다른 요청을 동시에 보내면 안 된다).
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class SqlStatementCounter implements StatementInspector, HibernatePropertiesCustomizer {
+
+	private static final AtomicLong COUNT = new AtomicLong();
+
+	@Override
+	public String inspect(String sql) {
+		COUNT.incrementAndGet();
+		return sql;
+	}
+
+	@Override
+	public void customize(Map<String, Object> hibernateProperties) {
+		hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+	}
+
+	public static void reset() {
+		COUNT.set(0);
+	}
+
+	public static long count() {
+		return COUNT.get();
+	}
+}
@@ -0,0 +1,35 @@
+package com.brobrown.soccerservice.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.brobrown.soccerservice.common.CursorPage.InvalidCursorException;
+
+class CursorPageTests {
+
+	@Test
+	void nextCursorDecodesBackToTheLastKey() {
+		CursorPage<Long> page = CursorPage.of(List.of(1L, 2L, 3L), 2, id -> id);
+
+		assertThat(page.content()).containsExactly(1L, 2L);
+		assertThat(CursorPage.decodeLong(page.nextCursor())).isEqualTo(2L);
+	}
+
+	@Test
+	void missingCursorMeansFirstPage() {
+		assertThat(CursorPage.decode(null)).isNull();
+		assertThat(CursorPage.decodeLong("")).isNull();
+	}
+
+	@Test
+	void tamperedCursorIsRejected() {
+		assertThatThrownBy(() -> CursorPage.decode("not base64!")).isInstanceOf(InvalidCursorException.class);
+		assertThatThrownBy(() -> CursorPage.decodeLong(CursorPage.encode("abc")))
+				.isInstanceOf(InvalidCursorException.class)
+				.hasMessage("Invalid cursor");
+	}
+}
@@ -0,0 +1,26 @@
+package com.brobrown.soccerservice.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class NdjsonWriterTests {
+
+	@Test
+	void everyLineIsOneJsonValueWithoutLeadingSeparator() throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (NdjsonWriter writer = new NdjsonWriter(new ObjectMapper(), out)) {
+			writer.write(Map.of("id", 1));
+			writer.write(Map.of("id", 2));
+			writer.write(Map.of("id", 3));
+		}
+
+		assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("{\"id\":1}\n{\"id\":2}\n{\"id\":3}\n");
+	}
+}
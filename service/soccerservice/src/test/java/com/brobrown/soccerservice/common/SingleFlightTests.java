@@ -0,0 +1,165 @@
+package com.brobrown.soccerservice.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.brobrown.soccerservice.common.SingleFlight.Role;
+
+class SingleFlightTests {
+
+	private final List<Role> roles = new CopyOnWriteArrayList<>();
+	private final AtomicInteger loads = new AtomicInteger();
+	private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+	/** leader의 loader 안에 들어왔음을 알림 */
+	private final CountDownLatch leaderRunning = new CountDownLatch(1);
+	/** leader의 loader를 끝내도록 허용 */
+	private final CountDownLatch releaseLeader = new CountDownLatch(1);
+
+	@AfterEach
+	void tearDown() {
+		releaseLeader.countDown();
+		executor.shutdownNow();
+	}
+
+	@Test
+	void followerReceivesTheLeaderResult() throws Exception {
+		SingleFlight<String, String> flight = flight(Duration.ofSeconds(5));
+
+		Future<String> leader = executor.submit(() -> flight.execute("k", () -> blockingLoad("leader")));
+		leaderRunning.await(5, TimeUnit.SECONDS);
+		FutureTask<String> follower = startWaiting(() -> flight.execute("k", () -> load("follower")));
+		releaseLeader.countDown();
+
+		assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("leader");
+		assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("leader");
+		assertThat(loads).hasValue(1);
+		assertThat(roles).containsExactlyInAnyOrder(Role.LEADER, Role.FOLLOWER);
+		assertThat(flight.inFlight()).isZero();
+	}
+
+	@Test
+	void followerFailsFastWhenTheLeaderFails() throws Exception {
+		SingleFlight<String, String> flight = flight(Duration.ofSeconds(5));
+
+		Future<String> leader = executor.submit(() -> flight.execute("k", () -> {
+			blockingLoad("leader");
+			throw new IllegalStateException("boom");
+		}));
+		leaderRunning.await(5, TimeUnit.SECONDS);
+		FutureTask<String> follower = startWaiting(() -> flight.execute("k", () -> load("follower")));
+		releaseLeader.countDown();
+
+		assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+		assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("busy:k");
+		assertThat(loads).as("the follower does not re-run the failed load").hasValue(1);
+		assertThat(roles).containsExactlyInAnyOrder(Role.LEADER, Role.FAILED);
+		assertThat(flight.inFlight()).isZero();
+	}
+
+	@Test
+	void followerTimesOutWithTheFallbackInsteadOfLoading() throws Exception {
+		SingleFlight<String, String> flight = flight(Duration.ofMillis(50));
+
+		Future<String> leader = executor.submit(() -> flight.execute("k", () -> blockingLoad("leader")));
+		leaderRunning.await(5, TimeUnit.SECONDS);
+
+		assertThat(flight.execute("k", () -> load("follower"))).isEqualTo("busy:k");
+		assertThat(loads).as("only the leader touched the loader").hasValue(1);
+		assertThat(roles).containsExactly(Role.LEADER, Role.TIMEOUT);
+
+		releaseLeader.countDown();
+		assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("leader");
+	}
+
+	@Test
+	void interruptedFollowerGivesUpAndKeepsTheInterruptFlag() throws Exception {
+		SingleFlight<String, String> flight = flight(Duration.ofSeconds(5));
+
+		Future<String> leader = executor.submit(() -> flight.execute("k", () -> blockingLoad("leader")));
+		leaderRunning.await(5, TimeUnit.SECONDS);
+
+		AtomicReference<Throwable> thrown = new AtomicReference<>();
+		AtomicReference<Boolean> interrupted = new AtomicReference<>();
+		Thread follower = Thread.ofVirtual().start(() -> {
+			try {
+				flight.execute("k", () -> load("follower"));
+			} catch (RuntimeException e) {
+				thrown.set(e);
+			}
+			interrupted.set(Thread.currentThread().isInterrupted());
+		});
+		awaitParked(follower);
+		follower.interrupt();
+		follower.join(5_000);
+
+		assertThat(thrown.get()).isInstanceOf(CancellationException.class);
+		assertThat(interrupted.get()).isTrue();
+		assertThat(loads).hasValue(1);
+
+		releaseLeader.countDown();
+		assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("leader");
+	}
+
+	@Test
+	void differentKeysDoNotWaitForEachOther() {
+		SingleFlight<String, String> flight = flight(Duration.ofSeconds(5));
+
+		assertThat(flight.execute("a", () -> load("a"))).isEqualTo("a");
+		assertThat(flight.execute("b", () -> load("b"))).isEqualTo("b");
+		assertThat(roles).containsExactly(Role.LEADER, Role.LEADER);
+	}
+
+	private SingleFlight<String, String> flight(Duration maxWait) {
+		return new SingleFlight<>(maxWait, key -> "busy:" + key, roles::add);
+	}
+
+	private String load(String value) {
+		loads.incrementAndGet();
+		return value;
+	}
+
+	private String blockingLoad(String value) {
+		loads.incrementAndGet();
+		leaderRunning.countDown();
+		try {
+			releaseLeader.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		return value;
+	}
+
+	/**
+	 * follower를 시작하고 leader 결과를 기다리며 멈출 때까지 대기 (먼저 풀어 주면 follower가 leader가 될 수 있음)
+	 */
+	private static FutureTask<String> startWaiting(Callable<String> call) throws InterruptedException {
+		FutureTask<String> task = new FutureTask<>(call);
+		awaitParked(Thread.ofVirtual().start(task));
+		return task;
+	}
+
+	private static void awaitParked(Thread thread) throws InterruptedException {
+		while (thread.getState() != Thread.State.WAITING && thread.getState() != Thread.State.TIMED_WAITING) {
+			assertThat(thread.getState()).isNotEqualTo(Thread.State.TERMINATED);
+			Thread.sleep(1);
+		}
+	}
+}
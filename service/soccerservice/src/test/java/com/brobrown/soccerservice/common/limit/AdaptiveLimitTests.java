@@ -0,0 +1,110 @@
+package com.brobrown.soccerservice.common.limit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class AdaptiveLimitTests {
+
+	private static final long BASE_RTT = TimeUnit.MILLISECONDS.toNanos(10);
+
+	@Test
+	void steadyRttGrowsTheLimitUpToMax() {
+		AdaptiveLimit limit = new AdaptiveLimit(10, 2, 40);
+
+		for (int i = 0; i < 5; i++) {
+			complete(limit, BASE_RTT, limit.limit());
+		}
+		assertThat(limit.limit()).isGreaterThan(10);
+
+		for (int i = 0; i < 200; i++) {
+			complete(limit, BASE_RTT, limit.limit());
+		}
+		assertThat(limit.limit()).isEqualTo(40);
+		assertThat(limit.inFlight()).isZero();
+	}
+
+	@Test
+	void risingRttShrinksTheLimit() {
+		AdaptiveLimit steady = warmedUp(100);
+		AdaptiveLimit rising = warmedUp(100);
+
+		for (int i = 1; i <= 20; i++) {
+			complete(steady, BASE_RTT, steady.limit());
+			complete(rising, BASE_RTT * (1 + 3 * i), rising.limit());
+		}
+
+		assertThat(steady.limit()).isGreaterThan(100);
+		assertThat(rising.limit()).isLessThan(50);
+	}
+
+	@Test
+	void oneStepNeverShrinksBelowTheMinGradient() {
+		AdaptiveLimit slow = warmedUp(100);
+		AdaptiveLimit verySlow = warmedUp(100);
+
+		complete(slow, BASE_RTT * 100, 100);
+		complete(verySlow, BASE_RTT * 1_000, 100);
+
+		// limit * (1 - SMOOTHING) + (limit * MIN_GRADIENT + sqrt(limit)) * SMOOTHING = 80 + 12
+		assertThat(slow.limit()).isEqualTo(92);
+		assertThat(verySlow.limit()).isEqualTo(92);
+	}
+
+	@Test
+	void overloadBacksOffImmediatelyDownToMin() {
+		AdaptiveLimit limit = new AdaptiveLimit(100, 5, 200);
+
+		limit.tryAcquire();
+		limit.release(BASE_RTT, 1, true);
+		assertThat(limit.limit()).isEqualTo(90);
+
+		for (int i = 0; i < 100; i++) {
+			limit.tryAcquire();
+			limit.release(BASE_RTT, 1, true);
+		}
+		assertThat(limit.limit()).isEqualTo(5);
+	}
+
+	@Test
+	void budgetUsedUnderHalfLeavesTheLimitUnchanged() {
+		AdaptiveLimit limit = new AdaptiveLimit(40, 2, 200);
+
+		complete(limit, BASE_RTT, 19);
+		complete(limit, BASE_RTT * 50, 19);
+		complete(limit, BASE_RTT / 10, 0);
+
+		assertThat(limit.limit()).isEqualTo(40);
+	}
+
+	@Test
+	void rejectsOnceInFlightReachesTheLimit() {
+		AdaptiveLimit limit = new AdaptiveLimit(2, 1, 10);
+
+		assertThat(limit.tryAcquire()).isEqualTo(1);
+		assertThat(limit.tryAcquire()).isEqualTo(2);
+		assertThat(limit.tryAcquire()).isEqualTo(-1);
+
+		limit.release();
+		assertThat(limit.tryAcquire()).isEqualTo(2);
+	}
+
+	/**
+	 * 한도의 절반도 쓰지 않는 요청으로 기준 지연만 쌓아 둔 한도
+	 */
+	private static AdaptiveLimit warmedUp(int initialLimit) {
+		AdaptiveLimit limit = new AdaptiveLimit(initialLimit, 2, 200);
+		for (int i = 0; i < 50; i++) {
+			complete(limit, BASE_RTT, 0);
+		}
+		assertThat(limit.limit()).isEqualTo(initialLimit);
+		return limit;
+	}
+
+	private static void complete(AdaptiveLimit limit, long rttNanos, int inFlightAtStart) {
+		limit.tryAcquire();
+		limit.release(rttNanos, inFlightAtStart, false);
+	}
+}
@@ -0,0 +1,91 @@
+package com.brobrown.soccerservice.common.limit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.brobrown.soccerservice.config.ConcurrencyLimitProperties;
+import com.brobrown.soccerservice.config.ConcurrencyLimitProperties.Budget;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import jakarta.servlet.FilterChain;
+
+class ConcurrencyLimitFilterTests {
+
+	private SimpleMeterRegistry registry;
+	private ConcurrencyLimitFilter filter;
+
+	@BeforeEach
+	void setUp() {
+		registry = new SimpleMeterRegistry();
+		ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties(true, Duration.ofSeconds(2),
+				List.of("/actuator/**"),
+				Map.of("crud", new Budget(List.of(), 2, 1, 100)));
+		filter = new ConcurrencyLimitFilter(properties, new ObjectMapper(), registry);
+	}
+
+	@Test
+	void downstream503BacksOffTheLimit() throws Exception {
+		MockHttpServletResponse response = perform("/team/all",
+				(request, res) -> ((MockHttpServletResponse) res).setStatus(HttpStatus.SERVICE_UNAVAILABLE.value()));
+
+		assertThat(response.getStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE.value());
+		// 2 * BACKOFF_RATIO = 1.8 -> 1
+		assertThat(limit()).isEqualTo(1.0);
+	}
+
+	@Test
+	void requestOverTheLimitIsRejectedWithRetryAfter() throws Exception {
+		MockHttpServletResponse[] third = new MockHttpServletResponse[1];
+		perform("/team/all", (first, firstResponse) ->
+				perform("/team/T01", (second, secondResponse) ->
+						third[0] = perform("/stadium/all", (request, response) -> {
+							throw new AssertionError("third request must not reach the controller");
+						})));
+
+		assertThat(third[0].getStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE.value());
+		assertThat(third[0].getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+		assertThat(third[0].getContentAsString()).contains("\"code\":503");
+		assertThat(registry.get("soccer.concurrency.rejected").tag("budget", "crud").counter().count())
+				.isEqualTo(1.0);
+		assertThat(registry.get("soccer.concurrency.inflight").tag("budget", "crud").gauge().value())
+				.isZero();
+	}
+
+	@Test
+	void excludedPathsBypassTheLimit() throws Exception {
+		perform("/team/all", (first, firstResponse) ->
+				perform("/team/T01", (second, secondResponse) -> {
+					MockHttpServletResponse actuator = perform("/actuator/health", (request, response) -> {
+					});
+					assertThat(actuator.getStatus()).isEqualTo(HttpStatus.OK.value());
+				}));
+	}
+
+	private MockHttpServletResponse perform(String uri, FilterChain chain) {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		try {
+			filter.doFilter(request, response, chain);
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+		return response;
+	}
+
+	private double limit() {
+		return registry.get("soccer.concurrency.limit").tag("budget", "crud").gauge().value();
+	}
+}
@@ -0,0 +1,116 @@
+package com.brobrown.soccerservice.common.limit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * 커넥션 풀이 모두 사용 중일 때 요청이 Hikari connectionTimeout까지 기다리지 않고 503으로 빨리 실패하는지 확인
+ */
+@SpringBootTest(properties = {
+		"spring.datasource.hikari.maximum-pool-size=" + JdbcConcurrencyLimiterTests.POOL_SIZE,
+		"spring.datasource.hikari.connection-timeout=30s",
+		"soccer.jdbc-limiter.max-wait=200ms",
+		"soccer.response-cache.enabled=false"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class JdbcConcurrencyLimiterTests {
+
+	static final int POOL_SIZE = 2;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ConnectionHolder connectionHolder;
+
+	@Autowired
+	private JdbcConcurrencyLimiter limiter;
+
+	@Test
+	void saturatedPoolAnswers503InsteadOfWaitingForHikari() throws Exception {
+		CountDownLatch holding = new CountDownLatch(POOL_SIZE);
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService holders = Executors.newFixedThreadPool(POOL_SIZE);
+		List<Future<?>> held = new ArrayList<>();
+		CountDownLatch backgroundRan = new CountDownLatch(1);
+		try {
+			for (int i = 0; i < POOL_SIZE; i++) {
+				held.add(holders.submit(() -> connectionHolder.hold(holding, release)));
+			}
+			assertThat(holding.await(10, TimeUnit.SECONDS)).as("every pooled connection is checked out").isTrue();
+
+			long start = System.nanoTime();
+			mockMvc.perform(get("/team/all")).andExpect(status().isServiceUnavailable());
+			mockMvc.perform(get("/stadium/all")).andExpect(status().isServiceUnavailable());
+			mockMvc.perform(get("/standings/2012")).andExpect(status().isServiceUnavailable());
+			long tookMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+			assertThat(tookMs).as("rejected by the limiter, not by Hikari's 30s connectionTimeout").isLessThan(5_000);
+
+			Thread.ofVirtual().start(() -> limiter.runWithPermit(backgroundRan::countDown));
+			assertThat(backgroundRan.await(500, TimeUnit.MILLISECONDS))
+					.as("background work waits for a permit past maxWait instead of failing")
+					.isFalse();
+		} finally {
+			release.countDown();
+			for (Future<?> future : held) {
+				future.get(10, TimeUnit.SECONDS);
+			}
+			holders.shutdown();
+		}
+		assertThat(backgroundRan.await(10, TimeUnit.SECONDS)).as("background work runs once a permit frees up").isTrue();
+
+		mockMvc.perform(get("/team/all")).andExpect(status().isOk());
+	}
+
+	@TestConfiguration(proxyBeanMethods = false)
+	static class HolderConfig {
+
+		@Bean
+		ConnectionHolder connectionHolder() {
+			return new ConnectionHolder();
+		}
+	}
+
+	/**
+	 * 트랜잭션 안에서 커넥션을 실제로 잡은 채 release 될 때까지 기다림 (JdbcConcurrencyLimiter 허가도 함께 점유)
+	 */
+	static class ConnectionHolder {
+
+		@PersistenceContext
+		private EntityManager entityManager;
+
+		@Transactional(readOnly = true)
+		public void hold(CountDownLatch holding, CountDownLatch release) {
+			entityManager.createNativeQuery("SELECT 1").getSingleResult();
+			holding.countDown();
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+}
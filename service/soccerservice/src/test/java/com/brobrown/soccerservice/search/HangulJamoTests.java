@@ -0,0 +1,42 @@
+package com.brobrown.soccerservice.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 완성형 음절/겹자모 분해와 입력 중인 음절의 접두사 일치 확인
+ */
+class HangulJamoTests {
+
+	@Test
+	void decomposesSyllablesIntoChoseongJungseongJongseong() {
+		assertThat(HangulJamo.decompose("가")).isEqualTo("ㄱㅏ");
+		assertThat(HangulJamo.decompose("손")).isEqualTo("ㅅㅗㄴ");
+		assertThat(HangulJamo.decompose("서울")).isEqualTo("ㅅㅓㅇㅜㄹ");
+	}
+
+	@Test
+	void splitsCompoundVowelsAndFinalConsonants() {
+		assertThat(HangulJamo.decompose("과")).isEqualTo("ㄱㅗㅏ");
+		assertThat(HangulJamo.decompose("의")).isEqualTo("ㅇㅡㅣ");
+		assertThat(HangulJamo.decompose("닭")).isEqualTo("ㄷㅏㄹㄱ");
+		assertThat(HangulJamo.decompose("값")).isEqualTo("ㄱㅏㅂㅅ");
+		assertThat(HangulJamo.decompose("ㅘ")).isEqualTo("ㅗㅏ");
+	}
+
+	@Test
+	void keepsNonHangulCharacters() {
+		assertThat(HangulJamo.decompose("fc 서울")).isEqualTo("fc ㅅㅓㅇㅜㄹ");
+		assertThat(HangulJamo.decompose("k-리그1")).isEqualTo("k-ㄹㅣㄱㅡ1");
+		assertThat(HangulJamo.decompose("")).isEmpty();
+	}
+
+	@Test
+	void syllableBeingTypedIsPrefixOfCompletedSyllable() {
+		assertThat(HangulJamo.decompose("손")).startsWith(HangulJamo.decompose("소"));
+		assertThat(HangulJamo.decompose("과")).startsWith(HangulJamo.decompose("고"));
+		assertThat(HangulJamo.decompose("닭")).startsWith(HangulJamo.decompose("달"));
+		assertThat(HangulJamo.decompose("서울")).startsWith(HangulJamo.decompose("서우"));
+	}
+}
@@ -0,0 +1,67 @@
+package com.brobrown.soccerservice.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 자동완성 트라이의 접두사 조회와 상위 MAX_SUGGESTIONS개 정렬 확인
+ */
+class SuggestTrieTests {
+
+	private static final SuggestTrie TRIE = SuggestTrie.build(List.of(
+			new Suggestion("서울", "region", 1),
+			new Suggestion("FC 서울", "team", 1),
+			new Suggestion("수원", "region", 1),
+			new Suggestion("서귀포", "region", 1)));
+
+	@Test
+	void findsCandidatesByPrefixIncludingLaterWords() {
+		assertThat(texts(TRIE.suggest("서", 10))).containsExactly("서울", "서귀포", "FC 서울");
+		assertThat(texts(TRIE.suggest("수", 10))).containsExactly("수원");
+		assertThat(texts(TRIE.suggest("fc", 10))).containsExactly("FC 서울");
+	}
+
+	@Test
+	void matchesSyllableBeingTyped() {
+		assertThat(texts(TRIE.suggest("서우", 10))).containsExactly("서울", "FC 서울");
+		assertThat(texts(TRIE.suggest("삼", 10))).isEmpty();
+	}
+
+	@Test
+	void normalizesCaseOfPrefix() {
+		assertThat(texts(TRIE.suggest("FC 서", 10))).containsExactly("FC 서울");
+	}
+
+	@Test
+	void returnsNothingForEmptyPrefixOrLimit() {
+		assertThat(TRIE.suggest("", 10)).isEmpty();
+		assertThat(TRIE.suggest("  ", 10)).isEmpty();
+		assertThat(TRIE.suggest("서", 0)).isEmpty();
+		assertThat(SuggestTrie.empty().suggest("서", 10)).isEmpty();
+	}
+
+	@Test
+	void keepsTopTenByWeightThenLengthThenText() {
+		List<Suggestion> suggestions = new ArrayList<>();
+		for (int i = 14; i >= 0; i--) {
+			suggestions.add(new Suggestion(String.format("선수%02d", i), "player", 1));
+		}
+		suggestions.add(new Suggestion("선수단", "team", 5));
+		SuggestTrie trie = SuggestTrie.build(suggestions);
+
+		List<String> top = texts(trie.suggest("선수", 20));
+
+		assertThat(top).hasSize(SuggestTrie.MAX_SUGGESTIONS);
+		assertThat(top).containsExactly("선수단", "선수00", "선수01", "선수02", "선수03",
+				"선수04", "선수05", "선수06", "선수07", "선수08");
+		assertThat(texts(trie.suggest("선", 3))).containsExactly("선수단", "선수00", "선수01");
+	}
+
+	private static List<String> texts(List<Suggestion> suggestions) {
+		return suggestions.stream().map(Suggestion::text).toList();
+	}
+}
@@ -0,0 +1,142 @@
+package com.brobrown.soccerservice.standings;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.brobrown.soccerservice.schedule.domain.ScheduleResult;
+
+/**
+ * 경기 결과 추가/수정/삭제에 따른 누적 기록과 최근 경기(form) 창 확인
+ */
+class SeasonTableTests {
+
+	@Test
+	void insertAddsResultToBothTeams() {
+		SeasonTable table = new SeasonTable();
+
+		table.apply(result(1, 1, "A", "B", 2, 1), 1);
+		table.apply(result(2, 2, "B", "A", 0, 0), 1);
+
+		List<TeamStanding> standings = table.standings();
+		assertThat(standings).extracting(TeamStanding::teamId).containsExactly("A", "B");
+
+		TeamStanding a = standings.get(0);
+		assertThat(a.rank()).isEqualTo(1);
+		assertThat(a.total()).isEqualTo(new TeamStanding.Record(2, 1, 1, 0, 2, 1));
+		assertThat(a.home()).isEqualTo(new TeamStanding.Record(1, 1, 0, 0, 2, 1));
+		assertThat(a.away()).isEqualTo(new TeamStanding.Record(1, 0, 1, 0, 0, 0));
+		assertThat(a.total().points()).isEqualTo(4);
+		assertThat(a.form()).isEqualTo("DW");
+
+		TeamStanding b = standings.get(1);
+		assertThat(b.total().points()).isEqualTo(1);
+		assertThat(b.form()).isEqualTo("DL");
+		assertThat(table.staleForms()).isEmpty();
+	}
+
+	@Test
+	void updateReplacesPreviousResultWithoutMarkingFormStale() {
+		SeasonTable table = sixMatches();
+		ScheduleResult before = result(2, 3, "A", "B", 1, 0);
+		ScheduleResult after = result(2, 3, "A", "B", 0, 2);
+
+		// 창에서 가장 오래된 경기를 수정해도 같은 자리로 돌아오므로 DB에서 다시 읽을 필요가 없다
+		table.apply(before, -1);
+		table.apply(after, 1);
+
+		TeamStanding a = standing(table, "A");
+		assertThat(a.total()).isEqualTo(new TeamStanding.Record(6, 2, 3, 1, 2, 2));
+		assertThat(a.form()).isEqualTo("WDWDL");
+		assertThat(standing(table, "B").form()).isEqualTo("LDLDW");
+		assertThat(table.staleForms()).isEmpty();
+	}
+
+	@Test
+	void updateMovingMatchBehindWindowMarksFormStale() {
+		SeasonTable table = sixMatches();
+
+		table.apply(result(6, 7, "A", "B", 1, 0), -1);
+		table.apply(result(6, 1, "A", "B", 1, 0), 1);
+
+		assertThat(standing(table, "A").total().played()).isEqualTo(6);
+		assertThat(table.staleForms()).containsOnlyKeys("A", "B");
+	}
+
+	@Test
+	void deleteFromFullWindowMarksFormStaleUntilRefilled() {
+		SeasonTable table = sixMatches();
+
+		table.apply(result(6, 7, "A", "B", 1, 0), -1);
+
+		TeamStanding a = standing(table, "A");
+		assertThat(a.total()).isEqualTo(new TeamStanding.Record(5, 2, 3, 0, 2, 0));
+		assertThat(a.form()).isEqualTo("DWDW");
+
+		Map<String, Long> stale = table.staleForms();
+		assertThat(stale).containsOnlyKeys("A", "B");
+
+		table.replaceForm("A", stale.get("A"), List.of(
+				result(5, 6, "A", "B", 0, 0),
+				result(4, 5, "A", "B", 1, 0),
+				result(3, 4, "A", "B", 0, 0),
+				result(2, 3, "A", "B", 1, 0),
+				result(1, 2, "A", "B", 0, 0)));
+
+		assertThat(standing(table, "A").form()).isEqualTo("DWDWD");
+		assertThat(table.staleForms()).containsOnlyKeys("B");
+	}
+
+	@Test
+	void refillIsIgnoredWhenTeamChangedMeanwhile() {
+		SeasonTable table = sixMatches();
+		table.apply(result(6, 7, "A", "B", 1, 0), -1);
+		long version = table.staleForms().get("A");
+
+		// 창 밖보다 오래된 경기라 빈자리는 그대로이고 버전만 바뀐다
+		table.apply(result(7, 1, "C", "A", 0, 0), 1);
+		table.replaceForm("A", version, List.of());
+
+		assertThat(table.staleForms()).containsKey("A");
+	}
+
+	@Test
+	void deletingOnlyMatchRemovesTeamsFromStandings() {
+		SeasonTable table = new SeasonTable();
+		ScheduleResult only = result(1, 1, "A", "B", 3, 1);
+
+		table.apply(only, 1);
+		table.apply(only, -1);
+
+		assertThat(table.standings()).isEmpty();
+		assertThat(table.staleForms()).isEmpty();
+	}
+
+	/**
+	 * A 홈, B 원정 6경기 (3월 2일~7일, 홀수 id는 0:0 무승부, 짝수 id는 1:0 A 승리)
+	 * 최근 경기 창에는 id 2~6이 들어 있다.
+	 */
+	private static SeasonTable sixMatches() {
+		SeasonTable table = new SeasonTable();
+		for (int id = 1; id <= 6; id++) {
+			table.apply(result(id, id + 1, "A", "B", id % 2 == 0 ? 1 : 0, 0), 1);
+		}
+		assertThat(standing(table, "A").form()).isEqualTo("WDWDW");
+		return table;
+	}
+
+	private static TeamStanding standing(SeasonTable table, String teamId) {
+		return table.standings().stream()
+				.filter(row -> row.teamId().equals(teamId))
+				.findFirst()
+				.orElseThrow();
+	}
+
+	private static ScheduleResult result(long id, int day, String home, String away, int homeScore, int awayScore) {
+		return new ScheduleResult(id, LocalDate.of(2012, 3, day), home, away, homeScore, awayScore);
+	}
+}